@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,6 +10,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,7 +19,23 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_MARKER = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+    private static final String SCRIPT_PARAMETER = "script";
+    private static final String HEADLESS_PARAMETER = "headless";
+    private static final String ON_ERROR_CONTINUE = "continue";
+    private static final String ON_ERROR_STOP = "stop";
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private Path scriptPath;
+    private boolean isScriptInvalid;
+    private boolean isScriptStoppedOnError = true;
+    private boolean isHeadless;
+    private Path inputPath;
+    private int saveInterval = 0;
+    private int apiPort = 0;
+    private Path exportPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +45,128 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the script to run without the GUI, or null if the GUI should be started.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if a script was asked for but no usable file was given, so that neither the script nor the GUI
+     * should be run.
+     */
+    public boolean isScriptInvalid() {
+        return isScriptInvalid;
+    }
+
+    public void setScriptInvalid(boolean isScriptInvalid) {
+        this.isScriptInvalid = isScriptInvalid;
+    }
+
+    public boolean isScriptStoppedOnError() {
+        return isScriptStoppedOnError;
+    }
+
+    public void setScriptStoppedOnError(boolean isScriptStoppedOnError) {
+        this.isScriptStoppedOnError = isScriptStoppedOnError;
+    }
+
+    /**
+     * Returns true if commands should be read from {@link #getInputPath()} without starting the GUI.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the file, e.g. a named pipe, that headless commands are read from, or null to read standard input.
+     */
+    public Path getInputPath() {
+        return inputPath;
+    }
+
+    public void setInputPath(Path inputPath) {
+        this.inputPath = inputPath;
+    }
+
+    /**
+     * Returns the number of commands after which changes are saved when the app runs without its GUI, or 0 if it was
+     * not given.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Returns the port of the local HTTP API, or 0 if the API should not be started.
+     */
+    public int getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Returns the file to export a json copy of the data to without starting the GUI, or null if none was given.
+     */
+    public Path getExportPath() {
+        return exportPath;
+    }
+
+    public void setExportPath(Path exportPath) {
+        this.exportPath = exportPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the application command-line arguments as given to {@code main}, before JavaFX is started.
+     * Named parameters take the form {@code --name=value}, as they do for JavaFX, except that the script may also be
+     * given as {@code --script <file>}. Parameters of the form {@code --name} are flags, so {@code --script} followed
+     * by another parameter or by nothing gives no script file.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith(NAMED_PARAMETER_MARKER)) {
+                continue;
+            }
+            String parameter = args[i].substring(NAMED_PARAMETER_MARKER.length());
+            int separatorIndex = parameter.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (separatorIndex != -1) {
+                namedParameters.put(parameter.substring(0, separatorIndex), parameter.substring(separatorIndex + 1));
+            } else if (parameter.equals(SCRIPT_PARAMETER)) {
+                boolean hasScriptFile = i + 1 < args.length && !args[i + 1].startsWith(NAMED_PARAMETER_MARKER);
+                namedParameters.put(SCRIPT_PARAMETER, hasScriptFile ? args[++i] : "");
+            } else {
+                namedParameters.put(parameter, "");
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +175,53 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get(SCRIPT_PARAMETER);
+        if (scriptPathParameter != null
+                && (scriptPathParameter.isEmpty() || !FileUtil.isValidPath(scriptPathParameter))) {
+            logger.warning("Invalid script path " + scriptPathParameter + ".");
+            appParameters.setScriptInvalid(true);
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String onErrorParameter = namedParameters.get("on-error");
+        if (onErrorParameter != null && !onErrorParameter.equals(ON_ERROR_STOP)
+                && !onErrorParameter.equals(ON_ERROR_CONTINUE)) {
+            logger.warning("Invalid on-error value " + onErrorParameter + ". Stopping scripts on error.");
+            onErrorParameter = null;
+        }
+        appParameters.setScriptStoppedOnError(!ON_ERROR_CONTINUE.equals(onErrorParameter));
+
+        String saveEveryParameter = namedParameters.get("save-every");
+        if (saveEveryParameter != null && !StringUtil.isNonZeroUnsignedInteger(saveEveryParameter)) {
+            logger.warning("Invalid save-every value " + saveEveryParameter + ". Using default save interval.");
+            saveEveryParameter = null;
+        }
+        appParameters.setSaveInterval(saveEveryParameter != null ? Integer.parseInt(saveEveryParameter) : 0);
+
+        appParameters.setHeadless(namedParameters.containsKey(HEADLESS_PARAMETER));
+        String inputPathParameter = namedParameters.get("input");
+        if (inputPathParameter != null && !FileUtil.isValidPath(inputPathParameter)) {
+            logger.warning("Invalid input path " + inputPathParameter + ". Reading standard input.");
+            inputPathParameter = null;
+        }
+        appParameters.setInputPath(inputPathParameter != null ? Paths.get(inputPathParameter) : null);
+
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && (!StringUtil.isNonZeroUnsignedInteger(apiPortParameter)
+                || Integer.parseInt(apiPortParameter) > MAX_PORT)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". Not starting the API.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.parseInt(apiPortParameter) : 0);
+
+        String exportPathParameter = namedParameters.get("export");
+        if (exportPathParameter != null && !FileUtil.isValidPath(exportPathParameter)) {
+            logger.warning("Invalid export path " + exportPathParameter + ". Not exporting.");
+            exportPathParameter = null;
+        }
+        appParameters.setExportPath(exportPathParameter != null ? Paths.get(exportPathParameter) : null);
+
         return appParameters;
     }
 
@@ -56,18 +237,35 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isScriptInvalid == otherAppParameters.isScriptInvalid
+                && isScriptStoppedOnError == otherAppParameters.isScriptStoppedOnError
+                && isHeadless == otherAppParameters.isHeadless
+                && Objects.equals(inputPath, otherAppParameters.inputPath)
+                && saveInterval == otherAppParameters.saveInterval
+                && apiPort == otherAppParameters.apiPort
+                && Objects.equals(exportPath, otherAppParameters.exportPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isScriptInvalid, isScriptStoppedOnError, isHeadless, inputPath,
+                saveInterval, apiPort, exportPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("isScriptInvalid", isScriptInvalid)
+                .add("isScriptStoppedOnError", isScriptStoppedOnError)
+                .add("isHeadless", isHeadless)
+                .add("inputPath", inputPath)
+                .add("saveInterval", saveInterval)
+                .add("apiPort", apiPort)
+                .add("exportPath", exportPath)
                 .toString();
     }
 }
@@ -0,0 +1,134 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandServer;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Runs the application without its GUI, for batch jobs and for other programs that drive it. JavaFX is never started.
+ */
+public class HeadlessApp {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_INVALID_SCRIPT = "--script needs the path of a script file, "
+            + "e.g. --script members.txt";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data: %1$s";
+    public static final String MESSAGE_INPUT_NOT_READ = "Could not read commands: %1$s";
+    public static final String MESSAGE_EXPORTED = "Exported %1$d members and %2$d events to %3$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export data to %1$s: %2$s";
+
+    /** Number of commands after which changes are saved in headless mode, unless another is given. */
+    public static final int DEFAULT_HEADLESS_SAVE_INTERVAL = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Runs the script given by {@code appParameters} against the app's data, printing its progress to {@code out}.
+     *
+     * @return the exit status of the app: {@link #EXIT_SUCCESS} if every command succeeded and was saved.
+     */
+    public static int runScript(AppParameters appParameters, PrintStream out) {
+        logger.info("=============================[ Running script " + appParameters.getScriptPath()
+                + " ]===========================");
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(appParameters.getScriptPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            out.println(String.format(MESSAGE_SCRIPT_NOT_READ, appParameters.getScriptPath(), e.getMessage()));
+            return EXIT_FAILURE;
+        }
+
+        MainApp app = new MainApp();
+        app.initStorageAndModel(appParameters);
+        ScriptRunner scriptRunner = new ScriptRunner(new LogicManager(app.model, app.storage),
+                appParameters.isScriptStoppedOnError(), appParameters.getSaveInterval(), out);
+        boolean isRun = scriptRunner.run(lines);
+        boolean isSuccessful = flush(app, out) && isRun;
+        return isSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Runs the commands read from the input given by {@code appParameters}, or from {@code in} if none is given,
+     * writing the outcome of each to {@code out} as a line of JSON. Log messages go to standard error, so that
+     * {@code out} holds only the outcomes.
+     *
+     * @return the exit status of the app: {@link #EXIT_SUCCESS} if all input was read and all changes were saved.
+     */
+    public static int runCommandServer(AppParameters appParameters, InputStream in, PrintStream out) {
+        logger.info("=============================[ Serving commands from "
+                + (appParameters.getInputPath() != null ? appParameters.getInputPath() : "standard input")
+                + " ]===========================");
+        MainApp app = new MainApp();
+        app.initStorageAndModel(appParameters);
+        int saveInterval = appParameters.getSaveInterval() > 0
+                ? appParameters.getSaveInterval()
+                : DEFAULT_HEADLESS_SAVE_INTERVAL;
+        CommandServer commandServer = new CommandServer(new LogicManager(app.model, app.storage), saveInterval, out);
+
+        boolean isSuccessful;
+        try (BufferedReader input = appParameters.getInputPath() != null
+                ? Files.newBufferedReader(appParameters.getInputPath(), StandardCharsets.UTF_8)
+                : new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            isSuccessful = commandServer.serve(input);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            System.err.println(String.format(MESSAGE_INPUT_NOT_READ, e.getMessage()));
+            isSuccessful = false;
+        }
+        isSuccessful = flush(app, System.err) && isSuccessful;
+        return isSuccessful ? EXIT_SUCCESS : EXIT_FAILURE;
+    }
+
+    /**
+     * Writes a copy of the app's data as a json file to the export path given by {@code appParameters}, whichever
+     * format the data is saved in, reporting the result to {@code out}.
+     *
+     * @return the exit status of the app: {@link #EXIT_SUCCESS} if the copy was written.
+     */
+    public static int exportJson(AppParameters appParameters, PrintStream out) {
+        MainApp app = new MainApp();
+        app.initStorageAndModel(appParameters);
+        ReadOnlyAddressBook addressBook = app.model.getAddressBook();
+        try {
+            new JsonAddressBookStorage(appParameters.getExportPath()).saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.severe("Failed to export data " + StringUtil.getDetails(e));
+            out.println(String.format(MESSAGE_EXPORT_FAILED, appParameters.getExportPath(), e.getMessage()));
+            return EXIT_FAILURE;
+        }
+        out.println(String.format(MESSAGE_EXPORTED, addressBook.getPersonList().size(),
+                addressBook.getEventList().size(), appParameters.getExportPath()));
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Waits for the app's data to be written, reporting to {@code out} if it could not be.
+     */
+    private static boolean flush(MainApp app, PrintStream out) {
+        try {
+            app.storage.flush();
+            return true;
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            out.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage()));
+            return false;
+        }
+    }
+}
@@ -20,11 +20,29 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When given {@code --script <file>}, {@code --headless} or {@code --export=<file>}, the app runs through
+ * {@link HeadlessApp} instead, without starting JavaFX at all. If {@code --script} is given without a usable file,
+ * the app exits with an error rather than starting the GUI that the script was meant to replace.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isScriptInvalid()) {
+            System.err.println(HeadlessApp.MESSAGE_INVALID_SCRIPT);
+            System.exit(HeadlessApp.EXIT_FAILURE);
+        }
+        if (appParameters.getScriptPath() != null) {
+            System.exit(HeadlessApp.runScript(appParameters, System.out));
+        }
+        if (appParameters.isHeadless()) {
+            System.exit(HeadlessApp.runCommandServer(appParameters, System.in, System.out));
+        }
+        if (appParameters.getExportPath() != null) {
+            System.exit(HeadlessApp.exportJson(appParameters, System.out));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
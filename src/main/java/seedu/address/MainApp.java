@@ -6,7 +6,9 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -25,12 +27,15 @@ import seedu.address.model.alias.AliasBook;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.AliasBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonAliasBookStorage;
+import seedu.address.storage.JsonJournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -48,6 +53,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
 
     @Override
     public void init() throws Exception {
@@ -55,20 +61,61 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initStorageAndModel(appParameters);
+
+        logic = new LogicManager(model, storage);
+
+        if (appParameters.getApiPort() != 0) {
+            initApiServer(appParameters.getApiPort());
+        }
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Starts the local HTTP API on {@code port}. The app runs without it if it cannot be started.
+     */
+    private void initApiServer(int port) {
+        apiServer = new ApiServer(logic, Platform::runLater);
+        try {
+            apiServer.start(port);
+        } catch (IOException e) {
+            logger.warning("Failed to start the API on port " + port + ": " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
+    }
+
+    /**
+     * Initializes the config, logging, storage and model given by {@code appParameters}; everything but the logic
+     * and the UI, which differ when the app runs without its GUI.
+     */
+    void initStorageAndModel(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         AliasBookStorage aliasBookStorage = new JsonAliasBookStorage(userPrefs.getAliasBookFilePath());
-        storage = new StorageManager(addressBookStorage, aliasBookStorage, userPrefsStorage);
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, aliasBookStorage, userPrefsStorage));
 
         model = initModelManager(storage, userPrefs);
+    }
 
-        logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
+    /**
+     * Returns the storage of the address book in the format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.getBinaryFilePath(userPrefs.getAddressBookFilePath()),
+                    userPrefs.getAddressBookFilePath());
+        case JOURNAL:
+            return new JsonJournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+        default:
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
     }
 
     /**
@@ -204,6 +251,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
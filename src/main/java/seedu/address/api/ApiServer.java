@@ -0,0 +1,325 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandOutcome;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * A local HTTP server through which other programs can read the lists shown in the app and run commands while the
+ * app is open. It only accepts connections from the same machine, and rejects requests made by web pages.
+ * <ul>
+ *     <li>{@code GET /api/members} and {@code GET /api/events} return the members and events shown in the app.</li>
+ *     <li>{@code GET /api/events/INDEX/attendance} returns the members attending the event at {@code INDEX}.</li>
+ *     <li>{@code POST /api/commands} runs the command in the request body and returns its {@link CommandOutcome}.
+ *     </li>
+ * </ul>
+ * Requests are handled by a pool of worker threads. Reads are served from an {@link ApiSnapshot}, which is replaced
+ * whenever the lists change, so they never wait for the app's thread. Commands are run on the app's thread, since
+ * the model may only be used there.
+ * <p>
+ * A web page open in the user's browser can also send requests to the loopback address, either directly or by
+ * rebinding its own host name to it, and could then run commands such as {@code clear}. Browsers add an
+ * {@code Origin} header to such requests and keep the page's host name in the {@code Host} header, so requests
+ * with an {@code Origin} header or a {@code Host} other than the loopback address are rejected.
+ */
+public class ApiServer {
+
+    public static final String MESSAGE_NOT_FOUND = "No such resource: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed on %2$s";
+    public static final String MESSAGE_COMMAND_TIMED_OUT = "The app was busy, so the command was not run";
+    public static final String MESSAGE_FORBIDDEN = "Requests from web pages or other hosts are not accepted";
+
+    private static final int WORKER_COUNT = 4;
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(30);
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final String MEMBERS_PATH = "/api/members";
+    private static final String EVENTS_PATH = "/api/events";
+    private static final Pattern ATTENDANCE_PATH = Pattern.compile(EVENTS_PATH + "/(?<index>\\d+)/attendance");
+    private static final String COMMANDS_PATH = "/api/commands";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor appExecutor;
+    private final Duration commandTimeout;
+    private final AtomicBoolean isRefreshScheduled = new AtomicBoolean();
+    private volatile ApiSnapshot snapshot;
+
+    private HttpServer server;
+    private ExecutorService workers;
+
+    /**
+     * Creates an {@code ApiServer} for {@code logic}, whose model is only used through {@code appExecutor}.
+     * Must be called on the app's thread, or before the app starts using the model.
+     */
+    public ApiServer(Logic logic, Executor appExecutor) {
+        this(logic, appExecutor, DEFAULT_COMMAND_TIMEOUT);
+    }
+
+    /**
+     * Creates an {@code ApiServer} that gives up on a command if the app has not started it within
+     * {@code commandTimeout}. Otherwise similar to {@link #ApiServer(Logic, Executor)}.
+     */
+    ApiServer(Logic logic, Executor appExecutor, Duration commandTimeout) {
+        this.logic = requireNonNull(logic);
+        this.appExecutor = requireNonNull(appExecutor);
+        this.commandTimeout = requireNonNull(commandTimeout);
+        this.snapshot = ApiSnapshot.of(logic);
+
+        ListChangeListener<Object> refresher = unused -> scheduleRefresh();
+        logic.getFilteredPersonList().addListener(refresher);
+        logic.getFilteredEventList().addListener(refresher);
+        logic.getAddressBook().getPersonList().addListener(refresher);
+    }
+
+    /**
+     * Starts accepting requests on {@code port} of the loopback address, or on any free port if it is 0.
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger workerCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(WORKER_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "api-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(workers);
+        server.createContext(MEMBERS_PATH, fromLocalProgramsOnly(this::handleMembers));
+        server.createContext(EVENTS_PATH, fromLocalProgramsOnly(this::handleEvents));
+        server.createContext(COMMANDS_PATH, fromLocalProgramsOnly(this::handleCommands));
+        server.start();
+        logger.info("API listening on " + server.getAddress());
+    }
+
+    /**
+     * Returns the port that requests are accepted on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, and stops the worker threads once the requests in progress are handled.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * Replaces the snapshot once the app has finished its current change to the lists. Changes made together, e.g.
+     * by one command, are coalesced into a single new snapshot.
+     */
+    private void scheduleRefresh() {
+        if (isRefreshScheduled.compareAndSet(false, true)) {
+            appExecutor.execute(() -> {
+                isRefreshScheduled.set(false);
+                snapshot = ApiSnapshot.of(logic);
+            });
+        }
+    }
+
+    /**
+     * Returns a handler that passes requests to {@code handler}, except those sent by a web page, which are rejected.
+     */
+    private static HttpHandler fromLocalProgramsOnly(HttpHandler handler) {
+        return exchange -> {
+            Headers headers = exchange.getRequestHeaders();
+            String host = headers.getFirst("Host");
+            if (headers.containsKey("Origin") || (host != null && !isLoopbackHost(host))) {
+                logger.warning("Rejected API request from a web page or another host: " + host);
+                sendError(exchange, 403, MESSAGE_FORBIDDEN);
+                return;
+            }
+            handler.handle(exchange);
+        };
+    }
+
+    /**
+     * Returns true if the {@code Host} header value {@code host} names the loopback address, with or without a port.
+     */
+    private static boolean isLoopbackHost(String host) {
+        int portStart = host.lastIndexOf(':');
+        String hostName = portStart > host.lastIndexOf(']') ? host.substring(0, portStart) : host;
+        return LOOPBACK_HOSTS.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    private void handleMembers(HttpExchange exchange) throws IOException {
+        handleRead(exchange, () -> exchange.getRequestURI().getPath().equals(MEMBERS_PATH)
+                ? Optional.of(Map.of("members", snapshot.getMembers()))
+                : Optional.empty());
+    }
+
+    private void handleEvents(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(EVENTS_PATH)) {
+            handleRead(exchange, () -> Optional.of(Map.of("events", snapshot.getEvents())));
+            return;
+        }
+
+        Matcher attendanceMatcher = ATTENDANCE_PATH.matcher(path);
+        handleRead(exchange, () -> attendanceMatcher.matches()
+                && StringUtil.isNonZeroUnsignedInteger(attendanceMatcher.group("index"))
+                ? snapshot.getAttendance(Integer.parseInt(attendanceMatcher.group("index")))
+                : Optional.empty());
+    }
+
+    /**
+     * Sends the value given by {@code reader}, or a not found error if it gives none.
+     */
+    private void handleRead(HttpExchange exchange, Supplier<Optional<?>> reader) throws IOException {
+        if (!isMethod(exchange, "GET")) {
+            sendMethodNotAllowed(exchange);
+            return;
+        }
+        Optional<?> value = reader.get();
+        if (value.isEmpty()) {
+            sendError(exchange, 404, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+            return;
+        }
+        send(exchange, 200, value.get());
+    }
+
+    private void handleCommands(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+            sendError(exchange, 404, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+            return;
+        }
+        if (!isMethod(exchange, "POST")) {
+            sendMethodNotAllowed(exchange);
+            return;
+        }
+
+        String commandText = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+        CompletableFuture<CommandOutcome> outcome = new CompletableFuture<>();
+        // Claimed by whichever comes first: the app starting the command, or the request giving up on it
+        AtomicBoolean isClaimed = new AtomicBoolean();
+        appExecutor.execute(() -> {
+            if (!isClaimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                outcome.complete(execute(commandText));
+            } catch (RuntimeException e) {
+                outcome.completeExceptionally(e);
+            }
+        });
+
+        try {
+            CommandOutcome commandOutcome = awaitUnlessNotStarted(outcome, isClaimed);
+            if (commandOutcome == null) {
+                sendError(exchange, 503, MESSAGE_COMMAND_TIMED_OUT);
+                return;
+            }
+            send(exchange, commandOutcome.isSuccessful() ? 200 : 400, commandOutcome);
+        } catch (ExecutionException e) {
+            logger.warning("Command from the API failed: " + StringUtil.getDetails(e.getCause()));
+            sendError(exchange, 500, e.getCause().toString());
+        } catch (InterruptedException e) {
+            // The server is stopping; the command still runs if the app has started it
+            Thread.currentThread().interrupt();
+            sendError(exchange, 503, MESSAGE_COMMAND_TIMED_OUT);
+        }
+    }
+
+    /**
+     * Returns the outcome of a command, or null if the app has not started the command within the timeout, in which
+     * case the command is cancelled and never runs. A command that the app has started is waited for until it ends,
+     * so that the outcome reported is always that of the command.
+     */
+    private CommandOutcome awaitUnlessNotStarted(CompletableFuture<CommandOutcome> outcome, AtomicBoolean isClaimed)
+            throws ExecutionException, InterruptedException {
+        try {
+            return outcome.get(commandTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (isClaimed.compareAndSet(false, true)) {
+                return null;
+            }
+            return outcome.get();
+        }
+    }
+
+    /**
+     * Runs {@code commandText} on the app's thread, then replaces the snapshot so that the command's changes are
+     * seen by the reads that follow it.
+     */
+    private CommandOutcome execute(String commandText) {
+        long start = System.nanoTime();
+        CommandOutcome outcome;
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            outcome = CommandOutcome.ofResult(commandText, commandResult, millisSince(start));
+        } catch (CommandException | ParseException e) {
+            outcome = CommandOutcome.ofError(commandText, e.getMessage(), millisSince(start));
+        }
+        snapshot = ApiSnapshot.of(logic);
+        return outcome;
+    }
+
+    private static boolean isMethod(HttpExchange exchange, String method) {
+        return exchange.getRequestMethod().equalsIgnoreCase(method);
+    }
+
+    private static void sendMethodNotAllowed(HttpExchange exchange) throws IOException {
+        sendError(exchange, 405, String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod(),
+                exchange.getRequestURI().getPath()));
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, Map.of("status", CommandOutcome.STATUS_ERROR, "message", message));
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonLine(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seedu.address.logic.Logic;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the lists shown in the app, from which the API serves reads on its own threads.
+ * The model itself may only be used on the app's thread. Persons and events are immutable, so copying the lists is
+ * enough.
+ */
+class ApiSnapshot {
+
+    private final List<Person> persons;
+    private final List<Event> events;
+    private final Map<MemberId, Person> personsById = new HashMap<>();
+    /** One-based indexes of the persons in {@code persons}. */
+    private final Map<MemberId, Integer> personIndexes = new HashMap<>();
+
+    private ApiSnapshot(List<Person> persons, List<Event> events, List<Person> allPersons) {
+        this.persons = List.copyOf(persons);
+        this.events = List.copyOf(events);
+        for (Person person : allPersons) {
+            if (person.hasId()) {
+                personsById.put(person.getId(), person);
+            }
+        }
+        for (int i = 0; i < this.persons.size(); i++) {
+            if (this.persons.get(i).hasId()) {
+                personIndexes.put(this.persons.get(i).getId(), i + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the lists shown by {@code logic}. Must be called on the app's thread.
+     */
+    static ApiSnapshot of(Logic logic) {
+        return new ApiSnapshot(logic.getFilteredPersonList(), logic.getFilteredEventList(),
+                logic.getAddressBook().getPersonList());
+    }
+
+    /**
+     * Returns the members shown in the app, with their indexes in the list.
+     */
+    List<JsonApiMember> getMembers() {
+        List<JsonApiMember> members = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            members.add(new JsonApiMember(i + 1, persons.get(i)));
+        }
+        return members;
+    }
+
+    /**
+     * Returns the events shown in the app, with their indexes in the list.
+     */
+    List<JsonApiEvent> getEvents() {
+        List<JsonApiEvent> apiEvents = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            apiEvents.add(new JsonApiEvent(i + 1, events.get(i)));
+        }
+        return apiEvents;
+    }
+
+    /**
+     * Returns the event at {@code oneBasedIndex} in the events shown in the app, with its attending members.
+     * Attendees that are shown in the app have their indexes in the list of members.
+     */
+    Optional<JsonApiAttendance> getAttendance(int oneBasedIndex) {
+        if (oneBasedIndex < 1 || oneBasedIndex > events.size()) {
+            return Optional.empty();
+        }
+
+        Event event = events.get(oneBasedIndex - 1);
+        List<JsonApiMember> attendees = new ArrayList<>();
+        for (MemberId attendee : event.getAttendees()) {
+            Person person = personsById.get(attendee);
+            if (person != null) {
+                attendees.add(new JsonApiMember(personIndexes.get(attendee), person));
+            }
+        }
+        return Optional.of(new JsonApiAttendance(new JsonApiEvent(oneBasedIndex, event), attendees));
+    }
+
+    /**
+     * Jackson-friendly version of a {@link Person} shown in the app.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class JsonApiMember {
+        private final Integer index;
+        private final Integer id;
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String year;
+        private final String role;
+        private final int attendanceCount;
+
+        JsonApiMember(Integer index, Person person) {
+            this.index = index;
+            this.id = person.hasId() ? person.getId().value : null;
+            this.name = person.getName().fullName;
+            this.phone = person.getPhone().value;
+            this.email = person.getEmail().value;
+            this.year = person.getYear().value;
+            this.role = person.getRole().roleName;
+            this.attendanceCount = person.getAttendanceCount();
+        }
+    }
+
+    /**
+     * Jackson-friendly version of an {@link Event} shown in the app.
+     */
+    static class JsonApiEvent {
+        private final int index;
+        private final String name;
+        private final String date;
+        private final String venue;
+        private final List<Integer> attendeeIds = new ArrayList<>();
+
+        JsonApiEvent(int index, Event event) {
+            this.index = index;
+            this.name = event.getName().fullName;
+            this.date = event.getDate().value;
+            this.venue = event.getVenue().value;
+            event.getAttendees().forEach(attendee -> attendeeIds.add(attendee.value));
+        }
+    }
+
+    /**
+     * Jackson-friendly attendance of an event.
+     */
+    static class JsonApiAttendance {
+        private final JsonApiEvent event;
+        private final List<JsonApiMember> attendees;
+
+        JsonApiAttendance(JsonApiEvent event, List<JsonApiMember> attendees) {
+            this.event = event;
+            this.attendees = attendees;
+        }
+    }
+}
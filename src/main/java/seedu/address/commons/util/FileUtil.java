@@ -1,16 +1,24 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Files at least this large are mapped into memory for reading, where the platform allows it. */
+    public static final long MAPPED_READ_THRESHOLD = 1 << 20;
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -72,6 +80,52 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns a buffer holding the contents of the given file, positioned at its start.
+     * Large files are mapped into memory, so their contents are read straight from the operating system's page cache
+     * rather than copied onto the heap.
+     * Assumes file exists
+     */
+    public static ByteBuffer readToBuffer(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (shouldMap(size)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(file));
+    }
+
+    /**
+     * Returns a stream of the contents of the given file, which the caller must close.
+     * Large files are read through a memory mapping, as in {@link #readToBuffer(Path)}.
+     * Assumes file exists
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        if (shouldMap(Files.size(file))) {
+            return new ByteBufferInputStream(readToBuffer(file));
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns a stream of the remaining contents of {@code buffer}, such as one returned by
+     * {@link #readToBuffer(Path)}. Reading the stream advances the buffer.
+     */
+    public static InputStream openForReading(ByteBuffer buffer) {
+        return new ByteBufferInputStream(buffer);
+    }
+
+    /**
+     * Returns true if a file of {@code size} bytes should be mapped into memory for reading.
+     * A mapping is only released when its buffer is garbage collected, and Windows does not allow a mapped file to
+     * be replaced until then, so files are never mapped there lest the next save fail.
+     */
+    private static boolean shouldMap(long size) {
+        return size >= MAPPED_READ_THRESHOLD && size <= Integer.MAX_VALUE
+                && !System.getProperty("os.name", "").startsWith("Windows");
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +134,37 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * An {@code InputStream} over the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
 }
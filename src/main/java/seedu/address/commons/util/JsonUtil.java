@@ -2,15 +2,23 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -33,6 +41,8 @@ public class JsonUtil {
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            // Values streamed into one file are flushed together when the file is closed
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
             .registerModule(new SimpleModule("SimpleModule")
@@ -40,7 +50,7 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        writeJsonFile(jsonFile, false, generator -> generator.writeObject(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -91,6 +101,71 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Writes the JSON produced by {@code content} to the specified file as it is generated, without first building
+     * the whole document in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @param isCompact whether to leave out the line breaks and indentation that make the file easier to read
+     * @param content cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, boolean isCompact, JsonContent content) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(content);
+
+        writeJson(new BufferedOutputStream(Files.newOutputStream(filePath)), isCompact, content);
+    }
+
+    /**
+     * Similar to {@link #writeJsonFile(Path, boolean, JsonContent)}, but also updates {@code checksum} with the bytes
+     * written, so that the file need not be read again to compute it.
+     */
+    public static void writeJsonFile(Path filePath, boolean isCompact, JsonContent content, Checksum checksum)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(content);
+        requireNonNull(checksum);
+
+        writeJson(new CheckedOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)), checksum),
+                isCompact, content);
+    }
+
+    /**
+     * Writes the JSON produced by {@code content} to {@code output}, which is closed afterwards.
+     */
+    private static void writeJson(OutputStream output, boolean isCompact, JsonContent content) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            content.writeTo(generator);
+        }
+    }
+
+    /**
+     * Returns a parser that reads the specified JSON file a token at a time, rather than loading the whole file.
+     * Large files are read through a memory mapping, as by {@link FileUtil#openForReading(Path)}.
+     * Objects read with {@link JsonParser#readValueAs(Class)} are converted as by {@link #fromJsonString}.
+     * The caller must close the parser.
+     * @param filePath cannot be null
+     * @throws IOException if the file could not be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(filePath));
+    }
+
+    /**
+     * Returns a parser of the JSON data in the remaining contents of {@code content}, such as a file read by
+     * {@link FileUtil#readToBuffer(Path)}. Otherwise similar to {@link #createParser(Path)}.
+     * @param content cannot be null
+     * @throws IOException if the parser could not be created
+     */
+    public static JsonParser createParser(ByteBuffer content) throws IOException {
+        requireNonNull(content);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(content));
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +186,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, written on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes a JSON value to a {@code JsonGenerator}.
+     * Objects written with {@link JsonGenerator#writeObject(Object)} are converted as by {@link #toJsonString(Object)}.
+     */
+    @FunctionalInterface
+    public interface JsonContent {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
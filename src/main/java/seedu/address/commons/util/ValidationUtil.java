@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hand-written checks for the simple formats of the model's values, which are validated by every parser, every
+ * constructor and on every load. Each check accepts exactly the strings that its regex, given in its description,
+ * matches with {@link String#matches(String)}, without compiling or running the regex.
+ * Value classes with more involved formats keep a precompiled {@code Pattern} instead.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code \d+}.
+     */
+    public static boolean isDigits(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{Alnum}][\p{Alnum} ]*}, i.e. it is alphanumeric words
+     * separated by spaces, with no leading space.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [first-last]}, i.e. it is a single character from {@code first}
+     * to {@code last}.
+     */
+    public static boolean isCharInRange(String test, char first, char last) {
+        requireNonNull(test);
+        return test.length() == 1 && test.charAt(0) >= first && test.charAt(0) <= last;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [^\s].*}, i.e. it is a single line that does not start with
+     * whitespace.
+     */
+    public static boolean isNonBlankLine(String test) {
+        requireNonNull(test);
+        if (test.isEmpty() || isAsciiWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /** Returns true for the characters that {@code \s} matches. */
+    private static boolean isAsciiWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Returns true for the characters that {@code .} does not match. */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Jackson-friendly outcome of a command run for another program: its {@link CommandResult}, or the message of the
+ * error that it failed with. Fields that do not apply to the outcome are left out of its JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CommandOutcome {
+
+    public static final String STATUS_OK = "ok";
+    public static final String STATUS_ERROR = "error";
+
+    private final String command;
+    private final String status;
+    private final String feedback;
+    private final String message;
+    private final Boolean showHelp;
+    private final Boolean showEvents;
+    private final Boolean showMembers;
+    private final Boolean exit;
+    private final double durationMillis;
+
+    private CommandOutcome(String command, String status, String feedback, String message, CommandResult result,
+                           double durationMillis) {
+        this.command = command;
+        this.status = status;
+        this.feedback = feedback;
+        this.message = message;
+        this.showHelp = result == null ? null : result.isShowHelp();
+        this.showEvents = result == null ? null : result.isShowEvents();
+        this.showMembers = result == null ? null : result.isShowMembers();
+        this.exit = result == null ? null : result.isExit();
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Returns the outcome of {@code command}, which succeeded with {@code result}.
+     */
+    public static CommandOutcome ofResult(String command, CommandResult result, double durationMillis) {
+        return new CommandOutcome(command, STATUS_OK, result.getFeedbackToUser(), null, result, durationMillis);
+    }
+
+    /**
+     * Returns the outcome of {@code command}, which failed with {@code message}. The command is null for errors that
+     * do not belong to a single command.
+     */
+    public static CommandOutcome ofError(String command, String message, double durationMillis) {
+        return new CommandOutcome(command, STATUS_ERROR, null, message, null, durationMillis);
+    }
+
+    public boolean isSuccessful() {
+        return STATUS_OK.equals(status);
+    }
+
+    public boolean isExit() {
+        return Boolean.TRUE.equals(exit);
+    }
+}
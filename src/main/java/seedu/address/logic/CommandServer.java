@@ -0,0 +1,105 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads commands line by line, e.g. from standard input or a named pipe, and runs each one, so that other programs
+ * can drive the app without its GUI. The {@link CommandOutcome} of each command is written as one line of JSON, e.g.
+ * <pre>
+ * {"command":"list member","status":"ok","feedback":"Listed all members","showHelp":false,...,"durationMillis":0.4}
+ * {"command":"delete member 99","status":"error","message":"The person index provided is invalid",...}
+ * </pre>
+ * Blank lines are skipped. Reading stops at the end of the input or at an {@code exit} command.
+ */
+public class CommandServer {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LogicManager logic;
+    private final int saveInterval;
+    private final PrintStream out;
+
+    /**
+     * Creates a {@code CommandServer} that runs commands through {@code logic} and writes their outcomes to
+     * {@code out}.
+     *
+     * @param saveInterval Number of commands after which changes are saved. Changes are also saved at the end.
+     */
+    public CommandServer(LogicManager logic, int saveInterval, PrintStream out) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        assert saveInterval > 0;
+        this.logic = logic;
+        this.saveInterval = saveInterval;
+        this.out = out;
+    }
+
+    /**
+     * Runs the commands read from {@code input} until it ends or an {@code exit} command is run, then saves the
+     * remaining changes.
+     *
+     * @return true if the remaining changes were saved.
+     * @throws IOException If {@code input} could not be read.
+     */
+    public boolean serve(BufferedReader input) throws IOException {
+        int runCount = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty()) {
+                continue;
+            }
+
+            runCount++;
+            CommandOutcome outcome = run(commandText, runCount % saveInterval == 0);
+            write(outcome);
+            if (outcome.isExit()) {
+                break;
+            }
+        }
+
+        try {
+            logic.saveChangesAndWait();
+            return true;
+        } catch (CommandException e) {
+            write(CommandOutcome.ofError(null, e.getMessage(), 0));
+            return false;
+        }
+    }
+
+    /**
+     * Runs {@code commandText}, then saves the changes made so far if {@code isSaved} and waits until they are
+     * written. A failed save is thus reported as the outcome of the command that saved, as it is in the GUI, even if
+     * the storage writes saves in the background.
+     */
+    private CommandOutcome run(String commandText, boolean isSaved) {
+        long start = System.nanoTime();
+        try {
+            CommandResult commandResult = logic.executeWithoutSaving(commandText);
+            if (isSaved) {
+                logic.saveChangesAndWait();
+            }
+            return CommandOutcome.ofResult(commandText, commandResult, millisSince(start));
+        } catch (CommandException | ParseException e) {
+            return CommandOutcome.ofError(commandText, e.getMessage(), millisSince(start));
+        }
+    }
+
+    private void write(CommandOutcome outcome) throws IOException {
+        out.println(JsonUtil.toJsonLine(outcome));
+        out.flush();
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -10,6 +11,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.alias.AliasBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 
 /**
@@ -38,6 +40,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
+    /**
+     * Returns the person with the given member id, if any.
+     *
+     * @see seedu.address.model.Model#getPersonById(MemberId)
+     */
+    Optional<Person> getPersonById(MemberId id);
+
     /** Returns the book containing the aliases */
     AliasBook getAliasBook();
 
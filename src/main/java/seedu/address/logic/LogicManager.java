@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,6 +18,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.alias.AliasBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -35,6 +37,10 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Versions of the books as of their last successful save; unset until each book is first saved. */
+    private long savedAddressBookVersion = -1;
+    private long savedAliasBookVersion = -1;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -46,22 +52,92 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        CommandResult commandResult = executeWithoutSaving(commandText);
+        saveChanges();
+        return commandResult;
+    }
+
+    /**
+     * Executes the command like {@link #execute(String)}, but leaves its changes unsaved until the next call of
+     * {@link #saveChanges()} or {@link #execute(String)}. This lets a batch of commands be saved once.
+     */
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return command.execute(model);
+    }
+
+    /**
+     * Saves the changes made by the commands executed since the last save.
+     *
+     * @throws CommandException If the changes could not be saved.
+     */
+    public void saveChanges() throws CommandException {
+        try {
+            saveChangedBooks();
+        } catch (IOException e) {
+            throw toCommandException(e);
+        }
+    }
+
+    /**
+     * Saves the changes like {@link #saveChanges()}, then waits until the storage has written them, so that a failure
+     * to write them is reported by this call rather than by a later one.
+     *
+     * @throws CommandException If the changes could not be saved.
+     */
+    public void saveChangesAndWait() throws CommandException {
+        try {
+            saveChangedBooks();
+            storage.flush();
+        } catch (IOException e) {
+            // The storage reports a failure only once, so the books are saved again by the next save
+            forgetSavedVersions();
+            throw toCommandException(e);
+        }
+    }
 
+    private static CommandException toCommandException(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()), e);
+    }
+
+    /**
+     * Saves each book that has been modified since it was last saved successfully.
+     * A storage may write saves after they return, so a save that later fails is only known to have failed when the
+     * storage reports it. Both books are then saved again, even if unchanged, before the failure is reported.
+     */
+    private void saveChangedBooks() throws IOException {
         try {
+            storage.reportFailedSaves();
+        } catch (IOException e) {
+            forgetSavedVersions();
+            saveChangedBookVersions();
+            throw e;
+        }
+        saveChangedBookVersions();
+    }
+
+    private void forgetSavedVersions() {
+        savedAddressBookVersion = -1;
+        savedAliasBookVersion = -1;
+    }
+
+    private void saveChangedBookVersions() throws IOException {
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion != savedAddressBookVersion) {
             storage.saveAddressBook(model.getAddressBook());
-            storage.saveAliasBook(model.getAliasBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedAddressBookVersion = addressBookVersion;
         }
 
-        return commandResult;
+        long aliasBookVersion = model.getAliasBookVersion();
+        if (aliasBookVersion != savedAliasBookVersion) {
+            storage.saveAliasBook(model.getAliasBook());
+            savedAliasBookVersion = aliasBookVersion;
+        }
     }
 
     @Override
@@ -79,6 +155,11 @@ public class LogicManager implements Logic {
         return model.getFilteredEventList();
     }
 
+    @Override
+    public Optional<Person> getPersonById(MemberId id) {
+        return model.getPersonById(id);
+    }
+
     @Override
     public AliasBook getAliasBook() {
         return model.getAliasBook();
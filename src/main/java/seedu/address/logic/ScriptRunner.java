@@ -0,0 +1,117 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands of a script, one per line, and prints the outcome and the time taken by each.
+ * Changes are saved once at the end, or after every given number of commands, instead of after each command as they
+ * are when entered in the GUI. Blank lines and lines starting with {@code #} are skipped.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_COMMAND_SUCCEEDED = "%1$5d  OK      %2$9.2f ms  %3$s";
+    public static final String MESSAGE_COMMAND_FAILED = "%1$5d  FAILED  %2$9.2f ms  %3$s%n              %4$s";
+    public static final String MESSAGE_SAVE_FAILED = "Save failed: %1$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d of %2$d commands in %3$.1f ms: %4$d succeeded, %5$d failed.";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LogicManager logic;
+    private final boolean isStoppedOnError;
+    private final int saveInterval;
+    private final PrintStream out;
+
+    /**
+     * Creates a {@code ScriptRunner} that runs commands through {@code logic} and prints to {@code out}.
+     *
+     * @param isStoppedOnError Whether the script stops at the first command that fails.
+     * @param saveInterval     Number of commands after which changes are saved, or 0 to save only at the end.
+     */
+    public ScriptRunner(LogicManager logic, boolean isStoppedOnError, int saveInterval, PrintStream out) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        assert saveInterval >= 0;
+        this.logic = logic;
+        this.isStoppedOnError = isStoppedOnError;
+        this.saveInterval = saveInterval;
+        this.out = out;
+    }
+
+    /**
+     * Runs the commands in {@code lines} in order, then saves their changes and prints a summary.
+     * The script ends early at an {@code exit} command, and at the first failure if it is stopped on error.
+     *
+     * @return true if every command that ran succeeded and all changes were saved.
+     */
+    public boolean run(List<String> lines) {
+        int commandCount = (int) lines.stream().map(String::trim).filter(line -> !isSkipped(line)).count();
+        int runCount = 0;
+        int failureCount = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            if (isSkipped(commandText)) {
+                continue;
+            }
+
+            runCount++;
+            boolean isExit = false;
+            long commandStart = System.nanoTime();
+            try {
+                CommandResult commandResult = logic.executeWithoutSaving(commandText);
+                out.println(String.format(MESSAGE_COMMAND_SUCCEEDED, i + 1, millisSince(commandStart), commandText));
+                isExit = commandResult.isExit();
+            } catch (CommandException | ParseException e) {
+                out.println(String.format(MESSAGE_COMMAND_FAILED, i + 1, millisSince(commandStart), commandText,
+                        e.getMessage()));
+                failureCount++;
+                if (isStoppedOnError) {
+                    break;
+                }
+            }
+
+            if (isExit) {
+                break;
+            }
+            if (saveInterval > 0 && runCount % saveInterval == 0) {
+                if (!save() && isStoppedOnError) {
+                    break;
+                }
+            }
+        }
+
+        // Changes that a periodic save failed to write are written by this one too
+        boolean isSaved = save();
+        out.println(String.format(MESSAGE_SUMMARY, runCount, commandCount, millisSince(start),
+                runCount - failureCount, failureCount));
+        return failureCount == 0 && isSaved;
+    }
+
+    private boolean save() {
+        try {
+            logic.saveChanges();
+            return true;
+        } catch (CommandException e) {
+            out.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage()));
+            return false;
+        }
+    }
+
+    private static boolean isSkipped(String line) {
+        return line.isEmpty() || line.startsWith(COMMENT_MARKER);
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / NANOS_PER_MILLI;
+    }
+}
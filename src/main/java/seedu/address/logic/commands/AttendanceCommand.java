@@ -1,7 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -11,25 +13,34 @@ import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
- * Base class for attendance-related commands that operate on a member and an event.
-    */
+ * Base class for attendance-related commands that operate on one or more members and an event.
+ */
 public abstract class AttendanceCommand extends Command {
 
     public static final String MESSAGE_INVALID_MEMBER_AND_EVENT_INDEX =
             "Both member and event indices are invalid.";
 
-    protected final Index memberIndex;
+    protected final List<Index> memberIndexes;
     protected final Index eventIndex;
 
-    protected AttendanceCommand(Index memberIndex, Index eventIndex) {
-        this.memberIndex = requireNonNull(memberIndex);
+    protected AttendanceCommand(List<Index> memberIndexes, Index eventIndex) {
+        requireNonNull(memberIndexes);
+        checkArgument(!memberIndexes.isEmpty(), "At least one member index is required.");
+        this.memberIndexes = List.copyOf(memberIndexes);
         this.eventIndex = requireNonNull(eventIndex);
     }
 
+    /**
+     * Returns true if this command targets more than one member.
+     */
+    protected boolean isBulk() {
+        return memberIndexes.size() > 1;
+    }
+
     /**
      * Resolves the member and event targets referenced by the stored indexes.
      *
-     * @throws CommandException if either index is out of bounds.
+     * @throws CommandException if any member index or the event index is out of bounds.
      */
     protected AttendanceContext resolveAttendanceContext(Model model,
                                                          String invalidMemberMessage,
@@ -39,10 +50,10 @@ public abstract class AttendanceCommand extends Command {
         List<Person> lastShownPersonList = model.getFilteredPersonList();
         List<Event> lastShownEventList = model.getFilteredEventList();
 
-        int memberZeroBased = memberIndex.getZeroBased();
         int eventZeroBased = eventIndex.getZeroBased();
 
-        boolean invalidMember = memberZeroBased < 0 || memberZeroBased >= lastShownPersonList.size();
+        boolean invalidMember = memberIndexes.stream()
+                .anyMatch(index -> index.getZeroBased() >= lastShownPersonList.size());
         boolean invalidEvent = eventZeroBased < 0 || eventZeroBased >= lastShownEventList.size();
 
         if (invalidMember && invalidEvent) {
@@ -55,26 +66,29 @@ public abstract class AttendanceCommand extends Command {
             throw new CommandException(invalidEventMessage);
         }
 
-        Person member = lastShownPersonList.get(memberZeroBased);
+        List<Person> members = new ArrayList<>(memberIndexes.size());
+        for (Index index : memberIndexes) {
+            members.add(lastShownPersonList.get(index.getZeroBased()));
+        }
         Event event = lastShownEventList.get(eventZeroBased);
 
-        return new AttendanceContext(member, event);
+        return new AttendanceContext(members, event);
     }
 
     /**
-     * Lightweight container for the member and event targeted by an attendance command.
+     * Lightweight container for the members and event targeted by an attendance command.
      */
     protected static class AttendanceContext {
-        private final Person member;
+        private final List<Person> members;
         private final Event event;
 
-        private AttendanceContext(Person member, Event event) {
-            this.member = member;
+        private AttendanceContext(List<Person> members, Event event) {
+            this.members = members;
             this.event = event;
         }
 
-        public Person getMember() {
-            return member;
+        public List<Person> getMembers() {
+            return members;
         }
 
         public Event getEvent() {
@@ -15,6 +15,7 @@ public abstract class FindCommand extends Command {
             + "Example: " + COMMAND_WORD + " member n/alice Bob\n"
             + "Example: " + COMMAND_WORD + " member r/leader\n"
             + "Example: " + COMMAND_WORD + " event n/ideate\n"
-            + "Example: " + COMMAND_WORD + " event d/2025-12-12T14:00";
+            + "Example: " + COMMAND_WORD + " event d/2025-12-12T14:00\n"
+            + "Example: " + COMMAND_WORD + " event d/2025-01..2025-03";
 
 }
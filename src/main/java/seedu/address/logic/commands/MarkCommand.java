@@ -1,59 +1,79 @@
 package seedu.address.logic.commands;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 
 /**
- * Marks a member's attendance at a specified event.
+ * Marks the attendance of one or more members at a specified event.
  */
 public class MarkCommand extends AttendanceCommand {
 
     public static final String COMMAND_WORD = "mark";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks attendance for a member at an event.\n"
-            + "Parameters: m/MEMBER_INDEX e/EVENT_INDEX\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks attendance for members at an event.\n"
+            + "Parameters: m/MEMBER_INDEXES e/EVENT_INDEX\n"
+            + "MEMBER_INDEXES is a comma-separated list of indexes and ranges, e.g. 1-40,45,52-60\n"
             + "Example: " + COMMAND_WORD + " m/1 e/1";
 
     public static final String MESSAGE_SUCCESS = "Marked attendance for member at event";
+    public static final String MESSAGE_SUCCESS_BULK = "Marked attendance for %1$d members at event";
     public static final String MESSAGE_INVALID_MEMBER_INDEX = "Member index is invalid";
     public static final String MESSAGE_INVALID_EVENT_INDEX = "Event index is invalid";
     public static final String MESSAGE_DUPLICATE_ATTENDANCE = "Member is already marked for attendance at this event";
+    public static final String MESSAGE_DUPLICATE_ATTENDANCE_BULK =
+            "Member %1$d is already marked for attendance at this event; no attendance was marked";
 
     /**
      * Creates a MarkCommand to mark a member's attendance at a specified event.
      */
     public MarkCommand(Index memberIndex, Index eventIndex) {
-        super(memberIndex, eventIndex);
+        this(List.of(memberIndex), eventIndex);
+    }
+
+    /**
+     * Creates a MarkCommand to mark the attendance of several members at a specified event.
+     */
+    public MarkCommand(List<Index> memberIndexes, Index eventIndex) {
+        super(memberIndexes, eventIndex);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         AttendanceContext context =
                 resolveAttendanceContext(model, MESSAGE_INVALID_MEMBER_INDEX, MESSAGE_INVALID_EVENT_INDEX);
-        Person memberToMark = context.getMember();
+        List<Person> membersToMark = context.getMembers();
         Event eventToMark = context.getEvent();
 
-        String attendanceEntry = memberToMark.getAttendanceKey();
-
-        // Guard against duplicate attendance
-        if (eventToMark.hasAttendee(attendanceEntry)) {
-            throw new CommandException(MESSAGE_DUPLICATE_ATTENDANCE);
+        // Guard against duplicate attendance before changing anything, so either every member is marked or none is
+        Set<MemberId> attendeeIds = new LinkedHashSet<>(eventToMark.getAttendees());
+        for (int i = 0; i < membersToMark.size(); i++) {
+            if (!attendeeIds.add(membersToMark.get(i).getId())) {
+                throw new CommandException(isBulk()
+                        ? String.format(MESSAGE_DUPLICATE_ATTENDANCE_BULK, memberIndexes.get(i).getOneBased())
+                        : MESSAGE_DUPLICATE_ATTENDANCE);
+            }
         }
 
-        // Mark attendance
-        // Update member's attendance count
-        Person updatedMember = memberToMark.withAttendanceCount(memberToMark.getAttendanceCount() + 1);
-        model.setPerson(memberToMark, updatedMember);
-
-        // Update event's attendance list
-        Event updatedEvent = eventToMark.addToAttendanceList(attendanceEntry);
-        model.setEvent(eventToMark, updatedEvent);
-
-        return new CommandResult(MESSAGE_SUCCESS);
+        // Mark attendance as one change: each member's count goes up once and the event is replaced once
+        model.runBatch(batch -> {
+            for (Person memberToMark : membersToMark) {
+                batch.setPerson(memberToMark, memberToMark.withAttendanceCount(memberToMark.getAttendanceCount() + 1));
+            }
+            batch.setEvent(eventToMark, eventToMark.withAttendees(attendeeIds));
+        });
+
+        return new CommandResult(isBulk()
+                ? String.format(MESSAGE_SUCCESS_BULK, membersToMark.size())
+                : MESSAGE_SUCCESS);
     }
 
     @Override
@@ -68,14 +88,14 @@ public class MarkCommand extends AttendanceCommand {
         }
 
         MarkCommand otherMarkCommand = (MarkCommand) other;
-        return memberIndex.equals(otherMarkCommand.memberIndex)
+        return memberIndexes.equals(otherMarkCommand.memberIndexes)
                 && eventIndex.equals(otherMarkCommand.eventIndex);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("memberIndex", memberIndex)
+                .add("memberIndexes", memberIndexes)
                 .add("eventIndex", eventIndex)
                 .toString();
     }
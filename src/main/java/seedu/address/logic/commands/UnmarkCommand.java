@@ -1,61 +1,81 @@
 package seedu.address.logic.commands;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 
 /**
- * Removes a member's attendance from a specified event.
+ * Removes the attendance of one or more members from a specified event.
  */
 public class UnmarkCommand extends AttendanceCommand {
 
     public static final String COMMAND_WORD = "unmark";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unmarks a member from an event.\n"
-            + "Parameters: m/MEMBER_INDEX e/EVENT_INDEX\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unmarks members from an event.\n"
+            + "Parameters: m/MEMBER_INDEXES e/EVENT_INDEX\n"
+            + "MEMBER_INDEXES is a comma-separated list of indexes and ranges, e.g. 1-40,45,52-60\n"
             + "Example: " + COMMAND_WORD + " m/1 e/1";
 
     public static final String MESSAGE_SUCCESS = "Unmarked member from event";
+    public static final String MESSAGE_SUCCESS_BULK = "Unmarked %1$d members from event";
     public static final String MESSAGE_INVALID_MEMBER_INDEX = "Member index is invalid";
     public static final String MESSAGE_INVALID_EVENT_INDEX = "Event index is invalid";
     public static final String MESSAGE_NO_ATTENDANCE_TO_UNMARK = "Member is not marked at this event";
+    public static final String MESSAGE_NO_ATTENDANCE_TO_UNMARK_BULK =
+            "Member %1$d is not marked at this event; no attendance was unmarked";
 
     /**
      * Creates an UnmarkCommand to remove a member's attendance from a specified event.
      */
     public UnmarkCommand(Index memberIndex, Index eventIndex) {
-        super(memberIndex, eventIndex);
+        this(List.of(memberIndex), eventIndex);
+    }
+
+    /**
+     * Creates an UnmarkCommand to remove the attendance of several members from a specified event.
+     */
+    public UnmarkCommand(List<Index> memberIndexes, Index eventIndex) {
+        super(memberIndexes, eventIndex);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         AttendanceContext context =
                 resolveAttendanceContext(model, MESSAGE_INVALID_MEMBER_INDEX, MESSAGE_INVALID_EVENT_INDEX);
-        Person memberToUnmark = context.getMember();
+        List<Person> membersToUnmark = context.getMembers();
         Event eventToUnmark = context.getEvent();
 
-        String attendanceEntry = memberToUnmark.getAttendanceKey();
-        boolean hasEntry = eventToUnmark.hasAttendee(attendanceEntry);
-
-        // Check if member is actually marked for attendance
-        if (!hasEntry) {
-            throw new CommandException(MESSAGE_NO_ATTENDANCE_TO_UNMARK);
+        // Check every member is actually marked before changing anything, so either all are unmarked or none is
+        Set<MemberId> attendeeIds = new LinkedHashSet<>(eventToUnmark.getAttendees());
+        for (int i = 0; i < membersToUnmark.size(); i++) {
+            if (!attendeeIds.remove(membersToUnmark.get(i).getId())) {
+                throw new CommandException(isBulk()
+                        ? String.format(MESSAGE_NO_ATTENDANCE_TO_UNMARK_BULK, memberIndexes.get(i).getOneBased())
+                        : MESSAGE_NO_ATTENDANCE_TO_UNMARK);
+            }
         }
 
-        // Unmark attendance
-        // Update member's attendance count (ensure it doesn't go below 0)
-        int newAttendanceCount = Math.max(0, memberToUnmark.getAttendanceCount() - 1);
-        Person updatedMember = memberToUnmark.withAttendanceCount(newAttendanceCount);
-        model.setPerson(memberToUnmark, updatedMember);
-
-        // Update event's attendance list
-        Event updatedEvent = eventToUnmark.removeFromAttendanceList(attendanceEntry);
-        model.setEvent(eventToUnmark, updatedEvent);
-
-        return new CommandResult(MESSAGE_SUCCESS);
+        // Unmark attendance as one change: each member's count goes down once (but not below 0)
+        // and the event is replaced once
+        model.runBatch(batch -> {
+            for (Person memberToUnmark : membersToUnmark) {
+                int newAttendanceCount = Math.max(0, memberToUnmark.getAttendanceCount() - 1);
+                batch.setPerson(memberToUnmark, memberToUnmark.withAttendanceCount(newAttendanceCount));
+            }
+            batch.setEvent(eventToUnmark, eventToUnmark.withAttendees(attendeeIds));
+        });
+
+        return new CommandResult(isBulk()
+                ? String.format(MESSAGE_SUCCESS_BULK, membersToUnmark.size())
+                : MESSAGE_SUCCESS);
     }
 
     @Override
@@ -70,14 +90,14 @@ public class UnmarkCommand extends AttendanceCommand {
         }
 
         UnmarkCommand otherUnmarkCommand = (UnmarkCommand) other;
-        return memberIndex.equals(otherUnmarkCommand.memberIndex)
+        return memberIndexes.equals(otherUnmarkCommand.memberIndexes)
                 && eventIndex.equals(otherUnmarkCommand.eventIndex);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("memberIndex", memberIndex)
+                .add("memberIndexes", memberIndexes)
                 .add("eventIndex", eventIndex)
                 .toString();
     }
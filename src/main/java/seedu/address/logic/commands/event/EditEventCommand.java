@@ -175,9 +175,8 @@ public class EditEventCommand extends EditCommand {
         EventName updatedEventName = editEventDescriptor.getEventName().orElse(eventToEdit.getName());
         Date updatedDate = editEventDescriptor.getDate().orElse(eventToEdit.getDate());
         Venue updatedVenue = editEventDescriptor.getVenue().orElse(eventToEdit.getVenue());
-        String attendanceList = eventToEdit.getAttendanceList(); // Preserve attendance list
-
-        return new Event(updatedEventName, updatedDate, updatedVenue, attendanceList);
+        // Preserve attendance list
+        return new Event(updatedEventName, updatedDate, updatedVenue, eventToEdit.getAttendees());
     }
 
     @Override
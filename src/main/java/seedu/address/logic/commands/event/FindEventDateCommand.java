@@ -2,33 +2,36 @@ package seedu.address.logic.commands.event;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Optional;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.Model;
 import seedu.address.model.event.DateContainsKeywordsPredicate;
+import seedu.address.model.event.DateRange;
 
 /**
- * Finds and lists all events in the address book whose location contains
- * any of the specified keywords. The search is case-insensitive and matches
- * partial keywords as well.
+ * Finds and lists all events in the address book whose date matches any of
+ * the specified partial dates or date ranges.
  *
  * <p>Example usage:
  * <pre>
- *     findeventlocation library
+ *     find event d/2025-01..2025-03
  * </pre>
- * will list all events with "library" appearing anywhere in their location field.</p>
+ * will list all events held from January to March 2025.</p>
  */
 public class FindEventDateCommand extends FindCommand {
 
     private final DateContainsKeywordsPredicate predicate;
 
     /**
-     * Constructs a {@code FindEventLocationCommand} with the given predicate
-     * to filter the event list based on location keywords.
+     * Constructs a {@code FindEventDateCommand} with the given predicate
+     * to filter the event list based on date keywords.
      *
-     * @param predicate the condition used to test each event's location.
+     * @param predicate the condition used to test each event's date.
      */
     public FindEventDateCommand(DateContainsKeywordsPredicate predicate) {
         super();
@@ -38,7 +41,9 @@ public class FindEventDateCommand extends FindCommand {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
+        // Resolve matches through the address book's date index when every keyword is a date range
+        Optional<List<DateRange>> ranges = predicate.toDateRanges();
+        model.updateFilteredEventList(ranges.isPresent() ? model.getEventDateMatcher(ranges.get()) : predicate);
         return CommandResult.showEvents(String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW,
                 model.getFilteredEventList().size()));
     }
@@ -28,7 +28,8 @@ public class FindMemberRoleCommand extends FindCommand {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Resolve matches through the address book's role index instead of testing every member's role
+        model.updateFilteredPersonList(model.getPersonRoleMatcher(predicate.getKeywords()));
         return CommandResult.showMembers(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                 model.getFilteredPersonList().size()));
 
@@ -1,5 +1,10 @@
 package seedu.address.logic.commands.member;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
@@ -15,9 +20,29 @@ public class HelpCommand extends Command {
             + "Example: " + COMMAND_WORD;
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
+    public static final String MESSAGE_COMMAND_LIST = "Available commands: %1$s";
+
+    private final String feedbackToUser;
+
+    /**
+     * Creates a HelpCommand that only opens the help window.
+     */
+    public HelpCommand() {
+        this(List.of());
+    }
+
+    /**
+     * Creates a HelpCommand that opens the help window and lists {@code commandWords}, if any.
+     */
+    public HelpCommand(Collection<String> commandWords) {
+        requireNonNull(commandWords);
+        feedbackToUser = commandWords.isEmpty()
+                ? SHOWING_HELP_MESSAGE
+                : SHOWING_HELP_MESSAGE + "\n" + String.format(MESSAGE_COMMAND_LIST, String.join(", ", commandWords));
+    }
 
     @Override
     public CommandResult execute(Model model) {
-        return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
+        return new CommandResult(feedbackToUser, true, false);
     }
 }
@@ -4,6 +4,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
@@ -29,10 +30,10 @@ final class AttendanceParserUtil {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MEMBER, PREFIX_EVENT);
 
-        Index memberIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_MEMBER).get());
+        List<Index> memberIndexes = ParserUtil.parseIndexes(argMultimap.getValue(PREFIX_MEMBER).get());
         Index eventIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_EVENT).get());
 
-        return new AttendanceIndexes(memberIndex, eventIndex);
+        return new AttendanceIndexes(memberIndexes, eventIndex);
     }
 
     private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
@@ -40,16 +41,16 @@ final class AttendanceParserUtil {
     }
 
     static final class AttendanceIndexes {
-        private final Index memberIndex;
+        private final List<Index> memberIndexes;
         private final Index eventIndex;
 
-        private AttendanceIndexes(Index memberIndex, Index eventIndex) {
-            this.memberIndex = memberIndex;
+        private AttendanceIndexes(List<Index> memberIndexes, Index eventIndex) {
+            this.memberIndexes = memberIndexes;
             this.eventIndex = eventIndex;
         }
 
-        Index getMemberIndex() {
-            return memberIndex;
+        List<Index> getMemberIndexes() {
+            return memberIndexes;
         }
 
         Index getEventIndex() {
@@ -0,0 +1,76 @@
+package seedu.address.logic.parser;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AliasCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.UnaliasCommand;
+import seedu.address.logic.commands.UnmarkCommand;
+import seedu.address.logic.commands.member.ExitCommand;
+import seedu.address.logic.commands.member.HelpCommand;
+
+/**
+ * The commands that users can enter, each with the parser of its arguments.
+ * This is the only list of commands: parsing, alias checks and help are all based on it, so a new command only has
+ * to be registered here. Parsers hold no state, so each is created once and shared by every parse.
+ */
+public class CommandRegistry {
+
+    private static final Map<String, Parser<? extends Command>> parsers = createParsers();
+    private static final Set<String> commandWords = Collections.unmodifiableSet(parsers.keySet());
+
+    private static Map<String, Parser<? extends Command>> createParsers() {
+        Map<String, Parser<? extends Command>> parsers = new LinkedHashMap<>();
+        register(parsers, AddCommand.COMMAND_WORD, new AddCommandParser());
+        register(parsers, EditCommand.COMMAND_WORD, new EditCommandParser());
+        register(parsers, DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        register(parsers, ClearCommand.COMMAND_WORD, new ClearCommandParser());
+        register(parsers, FindCommand.COMMAND_WORD, new FindCommandParser());
+        register(parsers, ListCommand.COMMAND_WORD, new ListCommandParser());
+        register(parsers, ExitCommand.COMMAND_WORD, new ExitCommandParser());
+        register(parsers, HelpCommand.COMMAND_WORD, new HelpCommandParser());
+        register(parsers, AliasCommand.COMMAND_WORD, new AliasCommandParser());
+        register(parsers, UnaliasCommand.COMMAND_WORD, new UnaliasCommandParser());
+        register(parsers, MarkCommand.COMMAND_WORD, new MarkCommandParser());
+        register(parsers, UnmarkCommand.COMMAND_WORD, new UnmarkCommandParser());
+        return parsers;
+    }
+
+    private static void register(Map<String, Parser<? extends Command>> parsers, String commandWord,
+            Parser<? extends Command> parser) {
+        Parser<? extends Command> previous = parsers.put(commandWord, parser);
+        assert previous == null : "Command word registered twice: " + commandWord;
+    }
+
+    /**
+     * Returns the parser of the arguments of the command with {@code commandWord}, or null if there is no such
+     * command.
+     */
+    public static Parser<? extends Command> getParser(String commandWord) {
+        return parsers.get(commandWord);
+    }
+
+    /**
+     * Returns true if {@code word} is the word of a command.
+     */
+    public static boolean isCommandWord(String word) {
+        return parsers.containsKey(word);
+    }
+
+    /**
+     * Returns the words of all commands, in the order they are listed in help.
+     */
+    public static Set<String> getCommandWords() {
+        return commandWords;
+    }
+}
@@ -18,8 +18,8 @@ import seedu.address.logic.commands.event.FindEventNameCommand;
 import seedu.address.logic.commands.member.FindMemberNameCommand;
 import seedu.address.logic.commands.member.FindMemberRoleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.event.Date;
 import seedu.address.model.event.DateContainsKeywordsPredicate;
+import seedu.address.model.event.DateRange;
 import seedu.address.model.event.EventNameContainsKeywordsPredicate;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -169,7 +169,10 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
         String[] dateKeywords = keywordsPart.split("\\s+");
         for (String name : dateKeywords) {
-            if (!Date.isValidPartialDate(name)) {
+            if (name.contains(DateRange.RANGE_SEPARATOR) && !DateRange.isValidDateRange(name)) {
+                throw new ParseException(DateRange.MESSAGE_CONSTRAINTS);
+            }
+            if (!DateRange.isValidDateRange(name)) {
                 throw new ParseException(
                         "Please enter a valid partial date.(e.g. 14:60 or 2025-02-30 are not allowed).");
             }
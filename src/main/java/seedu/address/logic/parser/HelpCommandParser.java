@@ -6,7 +6,7 @@ import seedu.address.logic.commands.member.HelpCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new HelpCommand.
+ * Parses input arguments and creates a new HelpCommand that lists the commands in the {@link CommandRegistry}.
  * The help command does not accept any arguments.
  */
 public class HelpCommandParser implements Parser<HelpCommand> {
@@ -23,6 +23,6 @@ public class HelpCommandParser implements Parser<HelpCommand> {
         if (!args.trim().isEmpty()) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
-        return new HelpCommand();
+        return new HelpCommand(CommandRegistry.getCommandWords());
     }
 }
@@ -16,6 +16,6 @@ public class MarkCommandParser implements Parser<MarkCommand> {
     public MarkCommand parse(String args) throws ParseException {
         AttendanceParserUtil.AttendanceIndexes indexes =
                 AttendanceParserUtil.parseIndexes(args, MarkCommand.MESSAGE_USAGE);
-        return new MarkCommand(indexes.getMemberIndex(), indexes.getEventIndex());
+        return new MarkCommand(indexes.getMemberIndexes(), indexes.getEventIndex());
     }
 }
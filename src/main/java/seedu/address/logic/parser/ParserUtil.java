@@ -2,6 +2,11 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -21,6 +26,15 @@ import seedu.address.model.person.Year;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index ranges should be written as START-END with START not greater than END, e.g. 1-40.";
+
+    public static final int MAX_INDEX_RANGE_SIZE = 10000;
+    public static final String MESSAGE_INDEX_RANGE_TOO_LARGE =
+            "Index lists and ranges may cover at most " + MAX_INDEX_RANGE_SIZE + " indexes in total.";
+
+    private static final String INDEX_LIST_SEPARATOR = ",";
+    private static final String INDEX_RANGE_SEPARATOR = "-";
 
     /**
      * Checks if the string is equal to member and it is not case-sensitive
@@ -55,6 +69,55 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses a comma-separated list of one-based indexes and inclusive index ranges, e.g. {@code 1-40,45,52-60},
+     * into the indexes it covers. Indexes are returned in the order they are first listed, without repeats.
+     * Whitespace around each entry is ignored.
+     * @throws ParseException if any entry is not a valid index or a valid range, or if the entries cover more than
+     *     {@link #MAX_INDEX_RANGE_SIZE} indexes.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        Set<Integer> oneBasedValues = new LinkedHashSet<>();
+        for (String entry : oneBasedIndexes.split(INDEX_LIST_SEPARATOR, -1)) {
+            String[] bounds = entry.split(INDEX_RANGE_SEPARATOR, -1);
+            if (bounds.length == 1) {
+                addIndexValue(oneBasedValues, parseIndex(entry).getOneBased());
+                continue;
+            }
+            if (bounds.length != 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+
+            int start = parseIndex(bounds[0]).getOneBased();
+            int end = parseIndex(bounds[1]).getOneBased();
+            if (start > end) {
+                throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+            }
+            if (end - start >= MAX_INDEX_RANGE_SIZE) {
+                throw new ParseException(MESSAGE_INDEX_RANGE_TOO_LARGE);
+            }
+            for (int i = start; i <= end; i++) {
+                addIndexValue(oneBasedValues, i);
+            }
+        }
+
+        List<Index> indexes = new ArrayList<>(oneBasedValues.size());
+        for (int value : oneBasedValues) {
+            indexes.add(Index.fromOneBased(value));
+        }
+        return indexes;
+    }
+
+    /**
+     * Adds {@code oneBasedValue} to {@code oneBasedValues}, so long as they stay within the indexes a list may cover.
+     */
+    private static void addIndexValue(Set<Integer> oneBasedValues, int oneBasedValue) throws ParseException {
+        if (oneBasedValues.add(oneBasedValue) && oneBasedValues.size() > MAX_INDEX_RANGE_SIZE) {
+            throw new ParseException(MESSAGE_INDEX_RANGE_TOO_LARGE);
+        }
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
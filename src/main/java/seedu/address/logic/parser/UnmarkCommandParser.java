@@ -16,6 +16,6 @@ public class UnmarkCommandParser implements Parser<UnmarkCommand> {
     public UnmarkCommand parse(String args) throws ParseException {
         AttendanceParserUtil.AttendanceIndexes indexes =
                 AttendanceParserUtil.parseIndexes(args, UnmarkCommand.MESSAGE_USAGE);
-        return new UnmarkCommand(indexes.getMemberIndex(), indexes.getEventIndex());
+        return new UnmarkCommand(indexes.getMemberIndexes(), indexes.getEventIndex());
     }
 }
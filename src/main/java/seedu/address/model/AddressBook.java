@@ -2,24 +2,69 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ChangeLog.Change;
+import seedu.address.model.event.DateRange;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Every person held is given a {@link MemberId} when it is added, which events use to record attendance.
+ *
+ * Also keeps a bidirectional attendance index (member to events and event to members), updated incrementally as
+ * persons and events are added, replaced and removed, so attendance cascades only visit the affected records.
+ * The indexes are updated before the person and event lists, so listeners notified of a change already see indexes
+ * that include it.
+ * Changes are recorded in a {@link ChangeLog}, so that saved copies can be updated with just what changed.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueEventList events;
 
+    /** Events each member attended, keyed by member id and then by {@link Event#getIdentityKey()}. */
+    private final Map<MemberId, Map<String, Event>> eventsByAttendee = new HashMap<>();
+
+    /** Attendee ids of each event, keyed by {@link Event#getIdentityKey()}. */
+    private final Map<String, Set<MemberId>> attendeesByEvent = new HashMap<>();
+
+    /** Persons keyed by their member id. */
+    private final Map<MemberId, Person> personsById = new HashMap<>();
+
+    /** The id given to the next person added without one; always greater than every id given so far. */
+    private int nextMemberId = 1;
+
+    /** Counts the changes made to the person and event lists. */
+    private long version;
+
+    private final ChangeLog changeLog = new ChangeLog();
+
+    /** Number of batches being run, counting nested ones. */
+    private int batchDepth;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -42,7 +87,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         events = new UniqueEventList();
     }
 
-    public AddressBook() {}
+    /**
+     * Creates an empty AddressBook.
+     */
+    public AddressBook() {
+        // Every mutation ends in a change to one of the lists, so counting list changes counts modifications
+        ListChangeListener<Object> modificationCounter = change -> version++;
+        persons.asUnmodifiableObservableList().addListener(modificationCounter);
+        events.asUnmodifiableObservableList().addListener(modificationCounter);
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -59,9 +112,51 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Member ids carried by {@code persons} are kept; a person without one, or whose id is already taken by an
+     * earlier person in the list, is given a fresh id. Ids of persons no longer in the list are not given again.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        for (Person person : persons) {
+            if (person.hasId()) {
+                nextMemberId = Math.max(nextMemberId, person.getId().value + 1);
+            }
+        }
+
+        Set<MemberId> usedIds = new HashSet<>();
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            boolean keepsId = person.hasId() && usedIds.add(person.getId());
+            personsWithIds.add(keepsId ? person : person.withId(new MemberId(nextMemberId++)));
+        }
+        indexPersonsById(personsWithIds);
+        try {
+            this.persons.setPersons(personsWithIds);
+        } catch (DuplicatePersonException e) {
+            indexPersonsById(this.persons);
+            throw e;
+        }
+        changeLog.record(Change.reset());
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, which are already known to be distinct and
+     * to have distinct member ids, such as the persons of an address book the app saved itself.
+     * Unlike {@link #setPersons(List)}, they are not checked.
+     */
+    public void setTrustedPersons(List<Person> persons) {
+        for (Person person : persons) {
+            nextMemberId = Math.max(nextMemberId, person.getId().value + 1);
+        }
+        indexPersonsById(persons);
+        this.persons.setTrustedPersons(persons);
+        changeLog.record(Change.reset());
+    }
+
+    private void indexPersonsById(Iterable<Person> persons) {
+        personsById.clear();
+        for (Person person : persons) {
+            personsById.put(person.getId(), person);
+        }
     }
 
     /**
@@ -72,6 +167,20 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         setPersons(newData.getPersonList());
         setEvents(newData.getEventList());
+        raiseNextMemberId(newData.getNextMemberId());
+    }
+
+    @Override
+    public int getNextMemberId() {
+        return nextMemberId;
+    }
+
+    /**
+     * Makes the id given to the next person added without one at least {@code nextMemberId}, such as when restoring
+     * the ids given before the address book was saved. It is never lowered, so that no id is given twice.
+     */
+    public void raiseNextMemberId(int nextMemberId) {
+        this.nextMemberId = Math.max(this.nextMemberId, nextMemberId);
     }
 
     //// person-level operations
@@ -87,20 +196,39 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The person keeps its member id if it has one that is not in use, and is given a fresh id otherwise.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        boolean keepsId = p.hasId() && !personsById.containsKey(p.getId());
+        Person toAdd = keepsId ? p : p.withId(new MemberId(nextMemberId));
+        if (persons.contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        personsById.put(toAdd.getId(), toAdd);
+        persons.add(toAdd);
+        nextMemberId = Math.max(nextMemberId, toAdd.getId().value + 1);
+        changeLog.record(Change.putPerson(toAdd));
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * {@code editedPerson} takes over the member id of {@code target}, so attendance records stay linked.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person storedTarget = persons.find(target).orElseThrow(PersonNotFoundException::new);
+        Person toStore = editedPerson.withId(storedTarget.getId());
+        personsById.put(toStore.getId(), toStore);
+        try {
+            persons.setPerson(target, toStore);
+        } catch (DuplicatePersonException e) {
+            personsById.put(storedTarget.getId(), storedTarget);
+            throw e;
+        }
+        changeLog.record(Change.putPerson(toStore));
     }
 
     /**
@@ -108,7 +236,55 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person storedKey = persons.find(key).orElseThrow(PersonNotFoundException::new);
+        personsById.remove(storedKey.getId());
         persons.remove(key);
+        changeLog.record(Change.removePerson(storedKey));
+    }
+
+    /**
+     * Returns the person in the address book with the given member id, if any.
+     */
+    public Optional<Person> getPersonById(MemberId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns a predicate that holds for the persons in the address book whose name contains any of
+     * {@code keywords} as a whole word, ignoring case.
+     */
+    public Predicate<Person> getPersonNameMatcher(List<String> keywords) {
+        return persons.nameMatcherFor(keywords);
+    }
+
+    /**
+     * Returns a predicate that holds for the persons in the address book whose role contains any of
+     * {@code keywords} as a whole word, ignoring case.
+     */
+    public Predicate<Person> getPersonRoleMatcher(List<String> keywords) {
+        return persons.roleMatcherFor(keywords);
+    }
+
+    /**
+     * Returns a predicate that holds for the events in the address book whose date-time falls within any of
+     * {@code ranges}.
+     */
+    public Predicate<Event> getEventDateMatcher(List<DateRange> ranges) {
+        return events.dateMatcherFor(ranges);
+    }
+
+    /**
+     * Returns a number that grows whenever the persons or events in this address book change.
+     * Equal versions mean the address book has not been modified in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<ChangeLog.Position> getChangePosition() {
+        return Optional.of(changeLog.getPosition());
     }
 
     @Override
@@ -123,7 +299,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setEvents(List<Event> events) {
-        this.events.setEvents(events);
+        rebuildAttendanceIndex(events);
+        try {
+            this.events.setEvents(events);
+        } catch (DuplicateEventException e) {
+            rebuildAttendanceIndex(this.events);
+            throw e;
+        }
+        changeLog.record(Change.reset());
+    }
+
+    /**
+     * Replaces the contents of the event list with {@code events}, which are already known to be distinct and to
+     * be attended only by persons in the address book, such as the events of an address book the app saved itself.
+     * Unlike {@link #setEvents(List)}, they are not checked.
+     */
+    public void setTrustedEvents(List<Event> events) {
+        rebuildAttendanceIndex(events);
+        this.events.setTrustedEvents(events);
+        changeLog.record(Change.reset());
+    }
+
+    private void rebuildAttendanceIndex(Iterable<Event> events) {
+        eventsByAttendee.clear();
+        attendeesByEvent.clear();
+        for (Event event : events) {
+            indexAttendance(event);
+        }
     }
 
     /**
@@ -139,7 +341,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The event must not already exist in the address book.
      */
     public void addEvent(Event event) {
+        if (events.contains(event)) {
+            throw new DuplicateEventException();
+        }
+        indexAttendance(event);
         events.add(event);
+        changeLog.record(Change.addEvent(event));
     }
 
     /**
@@ -150,7 +357,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
 
+        Event storedTarget = events.find(target).orElseThrow(EventNotFoundException::new);
+        if (!storedTarget.isSameEvent(editedEvent) && events.contains(editedEvent)) {
+            throw new DuplicateEventException();
+        }
+        unindexAttendance(target);
+        indexAttendance(editedEvent);
         events.setEvent(target, editedEvent);
+        changeLog.record(Change.replaceEvent(storedTarget, editedEvent));
     }
 
     /**
@@ -158,7 +372,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeEvent(Event key) {
+        Event storedKey = events.find(key).orElseThrow(EventNotFoundException::new);
+        unindexAttendance(key);
         events.remove(key);
+        changeLog.record(Change.removeEvent(storedKey));
     }
 
     @Override
@@ -166,6 +383,105 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.asUnmodifiableObservableList();
     }
 
+    // ===== Batches ========================================================================
+
+    /**
+     * Applies {@code mutations} to this address book as a single batch, so that listeners of the person and event
+     * lists are notified once when the batch ends rather than once per change. Batches may be nested.
+     * If {@code mutations} throws, the exception is rethrown, and once it leaves the outermost batch the persons and
+     * events are restored to their state before that batch. Only the outermost batch keeps a copy to restore, so a
+     * nested batch that throws is not undone on its own.
+     */
+    public void runBatch(Consumer<? super AddressBook> mutations) {
+        requireNonNull(mutations);
+        boolean isOutermost = batchDepth == 0;
+        List<Person> personsBefore = isOutermost ? new ArrayList<>(persons.asUnmodifiableObservableList()) : null;
+        List<Event> eventsBefore = isOutermost ? new ArrayList<>(events.asUnmodifiableObservableList()) : null;
+        ChangeLog.Position positionBefore = changeLog.getPosition();
+
+        batchDepth++;
+        persons.beginBatch();
+        events.beginBatch();
+        try {
+            mutations.accept(this);
+        } catch (RuntimeException e) {
+            if (isOutermost) {
+                setPersons(personsBefore);
+                setEvents(eventsBefore);
+                // The batch left no changes behind, so readers of the log need not see it
+                changeLog.rollBackTo(positionBefore);
+            }
+            throw e;
+        } finally {
+            events.endBatch();
+            persons.endBatch();
+            batchDepth--;
+        }
+    }
+
+    // ===== Attendance =====================================================================
+
+    /**
+     * Returns the member id of the person in the address book equal to {@code person}, if any.
+     */
+    public Optional<MemberId> getMemberId(Person person) {
+        requireNonNull(person);
+        return persons.find(person).map(Person::getId);
+    }
+
+    /**
+     * Returns the events in the address book that list the member with the given id as an attendee.
+     */
+    public List<Event> getEventsAttendedBy(MemberId id) {
+        requireNonNull(id);
+        Map<String, Event> attended = eventsByAttendee.get(id);
+        return attended == null ? List.of() : List.copyOf(attended.values());
+    }
+
+    /**
+     * Returns the persons in the address book that are listed as attendees of {@code event}.
+     * Attendee ids that do not belong to any person in the address book are skipped.
+     */
+    public List<Person> getAttendeesOf(Event event) {
+        requireNonNull(event);
+        Set<MemberId> attendees = attendeesByEvent.getOrDefault(event.getIdentityKey(), Set.of());
+        List<Person> attendingPersons = new ArrayList<>();
+        for (MemberId attendee : attendees) {
+            Person person = personsById.get(attendee);
+            if (person != null) {
+                attendingPersons.add(person);
+            }
+        }
+        return attendingPersons;
+    }
+
+    private void indexAttendance(Event event) {
+        String eventKey = event.getIdentityKey();
+        attendeesByEvent.put(eventKey, event.getAttendees());
+        for (MemberId attendee : event.getAttendees()) {
+            eventsByAttendee.computeIfAbsent(attendee, k -> new LinkedHashMap<>()).put(eventKey, event);
+        }
+    }
+
+    /**
+     * Drops the attendance ids recorded for the event sharing {@code event}'s identity. The recorded entries are
+     * used rather than {@code event}'s own, as callers may pass an equivalent event with a different attendance list.
+     */
+    private void unindexAttendance(Event event) {
+        String eventKey = event.getIdentityKey();
+        Set<MemberId> attendees = attendeesByEvent.remove(eventKey);
+        if (attendees == null) {
+            return;
+        }
+        for (MemberId attendee : attendees) {
+            Map<String, Event> attended = eventsByAttendee.get(attendee);
+            attended.remove(eventKey);
+            if (attended.isEmpty()) {
+                eventsByAttendee.remove(attendee);
+            }
+        }
+    }
+
     // ===== Utils ==========================================================================
 
     @Override
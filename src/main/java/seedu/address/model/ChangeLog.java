@@ -0,0 +1,164 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * The changes made to an address book, in order, so that a copy kept elsewhere (such as a journal file) can be
+ * brought up to date without comparing the whole address book.
+ *
+ * The log is a chain of {@link Position}s that only the address book appends to. A reader keeps the position it
+ * has caught up to and later asks for the changes made since. The log itself only holds its latest position, so
+ * changes that no reader can reach any more are garbage collected.
+ */
+public class ChangeLog {
+
+    private Position latest = new Position(null);
+
+    /**
+     * Returns the position reached by the changes recorded so far.
+     */
+    public Position getPosition() {
+        return latest;
+    }
+
+    /**
+     * Records {@code change} after the changes recorded so far.
+     */
+    public void record(Change change) {
+        requireNonNull(change);
+        Position next = new Position(change);
+        latest.next = next;
+        latest = next;
+    }
+
+    /**
+     * Discards the changes recorded after {@code position}, which must have been reached by this log, such as when
+     * those changes were undone. Readers that had caught up past {@code position} will find no changes to
+     * {@link #getChangesBetween(Position, Position) read} from there.
+     */
+    public void rollBackTo(Position position) {
+        requireNonNull(position);
+        position.next = null;
+        latest = position;
+    }
+
+    /**
+     * Returns the changes that lead from {@code from} to {@code to}, in the order they were made.
+     * Returns an empty {@code Optional} if {@code to} cannot be reached from {@code from}, such as when the positions
+     * belong to different logs, or if a change in between cannot be described piece by piece.
+     */
+    public static Optional<List<Change>> getChangesBetween(Position from, Position to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Change> changes = new ArrayList<>();
+        for (Position position = from; position != to; position = position.next) {
+            if (position.next == null || position.next.change.kind == Change.Kind.RESET) {
+                return Optional.empty();
+            }
+            changes.add(position.next.change);
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * A point in a {@code ChangeLog}, reached by the changes recorded before it.
+     */
+    public static final class Position {
+        private final Change change;
+        // Written by the thread changing the address book, and may be read by one saving a snapshot of it
+        private volatile Position next;
+
+        private Position(Change change) {
+            this.change = change;
+        }
+    }
+
+    /**
+     * One change made to an address book.
+     */
+    public static final class Change {
+
+        /** Kinds of changes. */
+        public enum Kind {
+            /** A person was added, or replaced with the person given. */
+            PUT_PERSON,
+            /** The person given was removed. */
+            REMOVE_PERSON,
+            /** The event given was added after the existing events. */
+            ADD_EVENT,
+            /** An event was replaced in place with the event given. */
+            REPLACE_EVENT,
+            /** The event given was removed. */
+            REMOVE_EVENT,
+            /** The persons or events were replaced wholesale. */
+            RESET
+        }
+
+        private static final Change RESET = new Change(Kind.RESET, null, null, null);
+
+        private final Kind kind;
+        private final Person person;
+        private final Event event;
+        private final Event replacedEvent;
+
+        private Change(Kind kind, Person person, Event event, Event replacedEvent) {
+            this.kind = kind;
+            this.person = person;
+            this.event = event;
+            this.replacedEvent = replacedEvent;
+        }
+
+        public static Change putPerson(Person person) {
+            return new Change(Kind.PUT_PERSON, requireNonNull(person), null, null);
+        }
+
+        public static Change removePerson(Person person) {
+            return new Change(Kind.REMOVE_PERSON, requireNonNull(person), null, null);
+        }
+
+        public static Change addEvent(Event event) {
+            return new Change(Kind.ADD_EVENT, null, requireNonNull(event), null);
+        }
+
+        /**
+         * Returns a change that replaces {@code replacedEvent}, as it was stored, with {@code event}.
+         */
+        public static Change replaceEvent(Event replacedEvent, Event event) {
+            return new Change(Kind.REPLACE_EVENT, null, requireNonNull(event), requireNonNull(replacedEvent));
+        }
+
+        public static Change removeEvent(Event event) {
+            return new Change(Kind.REMOVE_EVENT, null, requireNonNull(event), null);
+        }
+
+        public static Change reset() {
+            return RESET;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public Event getEvent() {
+            return event;
+        }
+
+        /**
+         * Returns the event replaced by a {@link Kind#REPLACE_EVENT} change.
+         */
+        public Event getReplacedEvent() {
+            return replacedEvent;
+        }
+    }
+}
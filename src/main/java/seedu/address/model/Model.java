@@ -2,13 +2,17 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.alias.Alias;
 import seedu.address.model.alias.AliasBook;
+import seedu.address.model.event.DateRange;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 
 /**
@@ -63,6 +67,14 @@ public interface Model {
     /** Resets Events in AddressBook */
     void resetEvents();
 
+    /**
+     * Applies {@code mutations} to this model as a single batch: observers of the person and event lists are notified
+     * once when the batch ends, and filtered list predicates set during the batch take effect then.
+     * As the filtered lists are only brought up to date at the end, displayed indexes should be resolved before the
+     * batch starts. If {@code mutations} throws, the address book is restored to its state before the batch.
+     */
+    void runBatch(Consumer<Model> mutations);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -87,6 +99,11 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the person in the address book with the given member id, if any.
+     */
+    Optional<Person> getPersonById(MemberId id);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -96,6 +113,20 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns a predicate that holds for the persons whose name contains any of {@code keywords} as a whole word,
+     * ignoring case. Matches are looked up in an index rather than by scanning every name, and stay accurate as
+     * the address book changes.
+     */
+    Predicate<Person> getPersonNameMatcher(List<String> keywords);
+
+    /**
+     * Returns a predicate that holds for the persons whose role contains any of {@code keywords} as a whole word,
+     * ignoring case. Matches are looked up in an index rather than by scanning every role, and stay accurate as
+     * the address book changes.
+     */
+    Predicate<Person> getPersonRoleMatcher(List<String> keywords);
+
     /**
      * Returns true if a event with the same identity as {@code event} exists in the address book.
      */
@@ -156,6 +187,18 @@ public interface Model {
     /** Returns the book containing the stored aliases. */
     AliasBook getAliasBook();
 
+    /**
+     * Returns a number that grows whenever the address book is modified.
+     * Equal versions mean the address book has not been modified in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns a number that grows whenever the alias book is modified.
+     * Equal versions mean the alias book has not been modified in between.
+     */
+    long getAliasBookVersion();
+
     /** Returns a list form of the alias book. */
     List<Alias> getAliasList();
 
@@ -170,4 +213,11 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredEventList(Predicate<Event> predicate);
+
+    /**
+     * Returns a predicate that holds for the events whose date-time falls within any of {@code ranges}.
+     * Matches are looked up in a date-ordered index rather than by scanning every event, and stay accurate as
+     * the address book changes.
+     */
+    Predicate<Event> getEventDateMatcher(List<DateRange> ranges);
 }
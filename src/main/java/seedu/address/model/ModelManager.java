@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,7 +18,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.alias.Alias;
 import seedu.address.model.alias.AliasBook;
+import seedu.address.model.event.DateRange;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 
 /**
@@ -30,6 +35,11 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Event> filteredEvents;
 
+    // Filters requested during a batch, applied once the filtered lists have caught up with the batch's changes
+    private int batchDepth = 0;
+    private Predicate<Person> pendingPersonPredicate;
+    private Predicate<Event> pendingEventPredicate;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -98,28 +108,66 @@ public class ModelManager implements Model {
 
     @Override
     public void resetMembers() {
-        // Clean up attendance in all events for every existing person before clearing
-        List<Person> existingPersons = new ArrayList<>(this.addressBook.getPersonList());
-        for (Person person : existingPersons) {
-            cleanupPersonAttendance(person);
-        }
+        addressBook.runBatch(book -> {
+            // Every member is going, so each event loses all of its attendees in one change
+            for (Event event : new ArrayList<>(book.getEventList())) {
+                if (!event.getAttendees().isEmpty()) {
+                    book.setEvent(event, event.withAttendees(List.of()));
+                }
+            }
 
-        List<Person> persons = new ArrayList<>();
-        this.addressBook.setPersons(persons);
+            List<Person> persons = new ArrayList<>();
+            book.setPersons(persons);
+        });
     }
 
     @Override
     public void resetEvents() {
-        // Clean up attendance counts in all persons for every existing event before clearing
-        List<Event> existingEvents = new ArrayList<>(this.addressBook.getEventList());
-        for (Event event : existingEvents) {
-            if (!event.getDate().isPastCurrDate()) {
-                cleanupEventAttendance(event);
+        addressBook.runBatch(book -> {
+            // Clean up attendance counts in all persons for every existing event before clearing
+            List<Event> existingEvents = new ArrayList<>(book.getEventList());
+            LocalDateTime now = LocalDateTime.now();
+            for (Event event : existingEvents) {
+                if (!event.getDate().isBefore(now)) {
+                    cleanupEventAttendance(event);
+                }
+            }
+
+            List<Event> events = new ArrayList<>();
+            book.setEvents(events);
+        });
+    }
+
+    @Override
+    public void runBatch(Consumer<Model> mutations) {
+        requireNonNull(mutations);
+        batchDepth++;
+        try {
+            addressBook.runBatch(unused -> mutations.accept(this));
+        } catch (RuntimeException e) {
+            if (batchDepth == 1) {
+                // The address book was restored, so filters requested for the batch's changes no longer apply
+                pendingPersonPredicate = null;
+                pendingEventPredicate = null;
+            }
+            throw e;
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                applyPendingPredicates();
             }
         }
+    }
 
-        List<Event> events = new ArrayList<>();
-        this.addressBook.setEvents(events);
+    private void applyPendingPredicates() {
+        if (pendingPersonPredicate != null) {
+            filteredPersons.setPredicate(pendingPersonPredicate);
+            pendingPersonPredicate = null;
+        }
+        if (pendingEventPredicate != null) {
+            filteredEvents.setPredicate(pendingEventPredicate);
+            pendingEventPredicate = null;
+        }
     }
 
     //=========== Person methods ================================================================================
@@ -132,25 +180,24 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        // Clean up attendance records before deleting the person
-        cleanupPersonAttendance(target);
-        addressBook.removePerson(target);
+        addressBook.runBatch(book -> {
+            // Clean up attendance records before deleting the person
+            cleanupPersonAttendance(target);
+            book.removePerson(target);
+        });
     }
 
     /**
      * Cleans up attendance records when a person is deleted.
-     * Removes the person's attendance entry from all event attendance lists.
+     * Removes the person's member id from the attendance lists of the events they attended.
      */
     private void cleanupPersonAttendance(Person person) {
-        String attendanceEntry = person.getAttendanceKey();
-        // Get all events and remove this person from their attendance lists
-        List<Event> allEvents = addressBook.getEventList();
-        for (Event event : allEvents) {
-            if (event.hasAttendee(attendanceEntry)) {
-                Event updatedEvent = event.removeFromAttendanceList(attendanceEntry);
+        addressBook.getMemberId(person).ifPresent(id -> {
+            for (Event event : addressBook.getEventsAttendedBy(id)) {
+                Event updatedEvent = event.removeFromAttendanceList(id);
                 addressBook.setEvent(event, updatedEvent);
             }
-        }
+        });
     }
 
     @Override
@@ -163,25 +210,14 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        updatePersonAttendanceEntry(target, editedPerson);
-
+        // Events refer to members by id, which editedPerson takes over, so no attendance records need updating
         addressBook.setPerson(target, editedPerson);
     }
 
-    /**
-     * Updates a person's identifier in all event attendance lists when they are edited.
-     */
-    private void updatePersonAttendanceEntry(Person original, Person updated) {
-        String oldEntry = original.getAttendanceKey();
-        String newEntry = updated.getAttendanceKey();
-
-        List<Event> allEvents = addressBook.getEventList();
-        for (Event event : allEvents) {
-            if (!oldEntry.equals(newEntry) && event.hasAttendee(oldEntry)) {
-                Event updatedEvent = event.replaceAttendeeEntry(oldEntry, newEntry);
-                addressBook.setEvent(event, updatedEvent);
-            }
-        }
+    @Override
+    public Optional<Person> getPersonById(MemberId id) {
+        requireNonNull(id);
+        return addressBook.getPersonById(id);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -198,9 +234,25 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            pendingPersonPredicate = predicate;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Person> getPersonNameMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonNameMatcher(keywords);
+    }
+
+    @Override
+    public Predicate<Person> getPersonRoleMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.getPersonRoleMatcher(keywords);
+    }
+
     //=========== Event methods ================================================================================
 
     @Override
@@ -211,10 +263,12 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteEvent(Event target) {
-        if (!target.getDate().isPastCurrDate()) {
-            cleanupEventAttendance(target);
-        }
-        addressBook.removeEvent(target);
+        addressBook.runBatch(book -> {
+            if (!target.getDate().isPastCurrDate()) {
+                cleanupEventAttendance(target);
+            }
+            book.removeEvent(target);
+        });
     }
 
     /**
@@ -222,18 +276,7 @@ public class ModelManager implements Model {
      * Decreases attendance count for all members who were marked for this event.
      */
     private void cleanupEventAttendance(Event event) {
-        if (event.getAttendees().isEmpty()) {
-            return;
-        }
-        List<String> memberEntries = event.getAttendees();
-        // Get all persons and decrease their attendance count
-        List<Person> allPersons = addressBook.getPersonList();
-        for (Person person : allPersons) {
-            String personEntry = person.getAttendanceKey();
-            // Check if this person was marked for attendance at this event
-            if (!memberEntries.contains(personEntry)) {
-                continue;
-            }
+        for (Person person : addressBook.getAttendeesOf(event)) {
             int newAttendanceCount = Math.max(0, person.getAttendanceCount() - 1);
             Person updatedPerson = person.withAttendanceCount(newAttendanceCount);
             addressBook.setPerson(person, updatedPerson);
@@ -298,6 +341,16 @@ public class ModelManager implements Model {
         return aliasBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public long getAliasBookVersion() {
+        return aliasBook.getVersion();
+    }
+
     @Override
     public List<Alias> getAliasList() {
         return aliasBook.getAliasList();
@@ -327,9 +380,19 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
+        if (batchDepth > 0) {
+            pendingEventPredicate = predicate;
+            return;
+        }
         filteredEvents.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Event> getEventDateMatcher(List<DateRange> ranges) {
+        requireNonNull(ranges);
+        return addressBook.getEventDateMatcher(ranges);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
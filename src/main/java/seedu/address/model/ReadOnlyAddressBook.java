@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
@@ -21,4 +23,17 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Event> getEventList();
 
+    /**
+     * Returns the member id that the next person added without one will be given.
+     * It is greater than every id ever given in this address book, including those of persons since deleted.
+     */
+    int getNextMemberId();
+
+    /**
+     * Returns the position reached in the {@link ChangeLog} of this address book, if its changes are logged.
+     */
+    default Optional<ChangeLog.Position> getChangePosition() {
+        return Optional.empty();
+    }
+
 }
@@ -13,8 +13,17 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * File formats in which the address book can be saved.
+     * {@code JOURNAL} saves a json file, and records the changes made since it was written in a journal next to it.
+     */
+    public enum AddressBookFormat {
+        JSON, JOURNAL, BINARY
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
     private Path aliasBookFilePath = Paths.get("data" , "aliasbook.json");
 
     /**
@@ -37,6 +46,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -61,6 +71,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
     public void setAliasBookFilePath(Path aliasBookFilePath) {
         requireNonNull(aliasBookFilePath);
         this.aliasBookFilePath = aliasBookFilePath;
@@ -80,12 +99,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && aliasBookFilePath.equals(otherUserPrefs.aliasBookFilePath);
+                && aliasBookFilePath.equals(otherUserPrefs.aliasBookFilePath)
+                && Objects.equals(addressBookFormat, otherUserPrefs.addressBookFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, aliasBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, aliasBookFilePath, addressBookFormat);
     }
 
     @Override
@@ -2,23 +2,11 @@ package seedu.address.model.alias;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.AliasCommand;
-import seedu.address.logic.commands.ClearCommand;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.FindCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.MarkCommand;
-import seedu.address.logic.commands.UnaliasCommand;
-import seedu.address.logic.commands.UnmarkCommand;
-import seedu.address.logic.commands.member.ExitCommand;
-import seedu.address.logic.commands.member.HelpCommand;
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.logic.parser.CommandRegistry;
 
 /**
  * Represents an alias mapping between a command word and its alias.
@@ -32,20 +20,8 @@ public class Alias {
     public static final String MESSAGE_CONSTRAINS_ALIAS_WORD =
             "Word chosen for alias should be alphanumeric, at most 10 characters and not be an existing command word.";
 
-    public static final Set<String> SET_OF_COMMANDS = new HashSet<>(Arrays.asList(
-            AddCommand.COMMAND_WORD,
-            EditCommand.COMMAND_WORD,
-            DeleteCommand.COMMAND_WORD,
-            ClearCommand.COMMAND_WORD,
-            FindCommand.COMMAND_WORD,
-            ListCommand.COMMAND_WORD,
-            ExitCommand.COMMAND_WORD,
-            HelpCommand.COMMAND_WORD,
-            AliasCommand.COMMAND_WORD,
-            UnaliasCommand.COMMAND_WORD,
-            MarkCommand.COMMAND_WORD,
-            UnmarkCommand.COMMAND_WORD
-    ));
+    /** The words of all commands, which aliases can stand for. */
+    public static final Set<String> SET_OF_COMMANDS = CommandRegistry.getCommandWords();
 
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
@@ -91,7 +67,7 @@ public class Alias {
      * @return {@code true} if the word matches a valid command, {@code false} otherwise.
      */
     public static boolean isValidCommandWord(String word) {
-        return SET_OF_COMMANDS.contains(word);
+        return CommandRegistry.isCommandWord(word);
     }
 
     /**
@@ -102,9 +78,9 @@ public class Alias {
      * @return {@code true} if the word is a valid alias, {@code false} otherwise.
      */
     public static boolean isValidAliasWord(String word) {
-        boolean containsAlphanumeric = word.matches(VALIDATION_REGEX);
+        boolean containsAlphanumeric = ValidationUtil.isAlphanumericWithSpaces(word);
         boolean isValidLength = word.length() <= 10;
-        boolean isNotCommandWord = !SET_OF_COMMANDS.contains(word);
+        boolean isNotCommandWord = !CommandRegistry.isCommandWord(word);
         return containsAlphanumeric && isValidLength && isNotCommandWord;
     }
 
@@ -12,6 +12,9 @@ public class AliasBook {
 
     private static final Map<String, String> aliasMap = new HashMap<>();
 
+    /** Counts the changes made to {@code aliasMap}, which like the aliases is shared by all alias books. */
+    private static long version;
+
     /**
      * Adds a new alias mapping to the alias book.
      *
@@ -19,6 +22,7 @@ public class AliasBook {
      */
     public void addAlias(Alias alias) {
         aliasMap.put(alias.getAliasWord(), alias.getCommandWord());
+        version++;
     }
 
     /**
@@ -28,6 +32,7 @@ public class AliasBook {
      */
     public void removeAlias(String key) {
         aliasMap.remove(key);
+        version++;
     }
 
     /**
@@ -95,6 +100,15 @@ public class AliasBook {
      */
     public void clear() { // Method for future use
         aliasMap.clear();
+        version++;
+    }
+
+    /**
+     * Returns a number that grows whenever aliases are added or removed.
+     * Equal versions mean the aliases have not been modified in between.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -10,12 +10,13 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.regex.Pattern;
 
 /**
  * Represents an Event date (YYYY-MM-DD).
- * Immutable and validated.
+ * Immutable and validated. The date-time is parsed once, when the Date is created.
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Input for dates should be in ISO format YYYY-MM-DDTHH:MM (no seconds allowed)."
@@ -33,39 +34,74 @@ public class Date {
     public static final DateTimeFormatter DATETIME_FORMATTER =
             DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm").withResolverStyle(ResolverStyle.STRICT);
 
+    private static final Pattern YEAR_PATTERN = Pattern.compile("\\d{4}");
+    private static final Pattern YEAR_MONTH_PATTERN = Pattern.compile("\\d{4}-\\d{2}");
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern DATETIME_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}");
+
     public final String value;
 
+    private final LocalDateTime dateTime;
+
     /**
      * Creates a Date from an ISO string (YYYY-MM-DD).
      */
     public Date(String dateString) {
-        requireNonNull(dateString);
-        checkArgument(isValidDate(dateString), MESSAGE_CONSTRAINTS);
+        this(dateString, parse(requireNonNull(dateString)));
+    }
+
+    private Date(String dateString, LocalDateTime dateTime) {
+        checkArgument(dateTime != null, MESSAGE_CONSTRAINTS);
         this.value = dateString;
+        this.dateTime = dateTime;
+    }
+
+    /**
+     * Returns a {@code Date} of {@code dateString} without checking it, for a date already known to be valid, such
+     * as one read back from a file the app saved itself. Its fields are read by position instead of by
+     * {@link #FORMATTER}, which checks them.
+     */
+    public static Date ofTrusted(String dateString) {
+        int length = dateString.length();
+        // Only the year can vary in length, and it is followed by "-MM-ddTHH:mm"
+        int yearEnd = length - 12;
+        LocalDateTime dateTime = LocalDateTime.of(
+                Integer.parseInt(dateString, 0, yearEnd, 10),
+                Integer.parseInt(dateString, yearEnd + 1, yearEnd + 3, 10),
+                Integer.parseInt(dateString, yearEnd + 4, yearEnd + 6, 10),
+                Integer.parseInt(dateString, yearEnd + 7, yearEnd + 9, 10),
+                Integer.parseInt(dateString, yearEnd + 10, length, 10));
+        return new Date(dateString, dateTime);
     }
 
     /**
      * Returns true if the given string is a valid ISO date.
      */
     public static boolean isValidDate(String test) {
+        return parse(test) != null;
+    }
+
+    /**
+     * Returns {@code test} parsed as a date-time, or null if it is not a valid ISO date.
+     */
+    private static LocalDateTime parse(String test) {
         try {
-            LocalDateTime.parse(test, FORMATTER);
-            return true;
+            return LocalDateTime.parse(test, FORMATTER);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
     /** Checks if the input matches and parses as a valid partial date or date-time. */
     public static boolean isValidPartialDate(String input) {
         try {
-            if (input.matches("\\d{4}$")) {
+            if (YEAR_PATTERN.matcher(input).matches()) {
                 Year.parse(input, YEAR_FORMATTER);
-            } else if (input.matches("\\d{4}-\\d{2}$")) {
+            } else if (YEAR_MONTH_PATTERN.matcher(input).matches()) {
                 YearMonth.parse(input, YEAR_MONTH_FORMATTER);
-            } else if (input.matches("\\d{4}-\\d{2}-\\d{2}$")) {
+            } else if (DATE_PATTERN.matcher(input).matches()) {
                 LocalDate.parse(input, DATE_FORMATTER);
-            } else if (input.matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}$")) {
+            } else if (DATETIME_PATTERN.matcher(input).matches()) {
                 LocalDateTime.parse(input, DATETIME_FORMATTER);
             } else {
                 return false;
@@ -76,12 +112,34 @@ public class Date {
         }
     }
 
+    /**
+     * Returns this date-time as a {@code LocalDateTime}.
+     */
+    public LocalDateTime toLocalDateTime() {
+        return dateTime;
+    }
+
+    /**
+     * Returns true if this date-time is before {@code other}.
+     */
+    public boolean isBefore(LocalDateTime other) {
+        requireNonNull(other);
+        return dateTime.isBefore(other);
+    }
+
     /**
      * Returns true if this date-time is before the current system time.
      */
     public boolean isPastCurrDate() {
-        LocalDateTime dateTime = LocalDateTime.parse(value, FORMATTER);
-        return dateTime.isBefore(LocalDateTime.now());
+        return isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * Orders dates chronologically.
+     */
+    @Override
+    public int compareTo(Date other) {
+        return dateTime.compareTo(other.dateTime);
     }
 
     @Override
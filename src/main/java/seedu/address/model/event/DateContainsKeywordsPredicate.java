@@ -1,12 +1,16 @@
 package seedu.address.model.event;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Event}'s {@code Location} matches any of the keywords given.
+ * Tests that a {@code Event}'s {@code Date} matches any of the keywords given.
+ * A keyword matches dates that start with it, or, if it is a {@code DateRange} of the form {@code START..END},
+ * dates that fall within that range.
  */
 public class DateContainsKeywordsPredicate implements Predicate<Event> {
     private final List<String> keywords;
@@ -15,10 +19,36 @@ public class DateContainsKeywordsPredicate implements Predicate<Event> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the keywords as date ranges, or an empty {@code Optional} if any keyword is not a valid date range.
+     */
+    public Optional<List<DateRange>> toDateRanges() {
+        List<DateRange> ranges = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (!DateRange.isValidDateRange(keyword)) {
+                return Optional.empty();
+            }
+            ranges.add(DateRange.parse(keyword));
+        }
+        return Optional.of(ranges);
+    }
+
     @Override
     public boolean test(Event event) {
         return keywords.stream()
-                .anyMatch(keyword -> event.getDate().value.startsWith(keyword));
+                .anyMatch(keyword -> matches(event, keyword));
+    }
+
+    private static boolean matches(Event event, String keyword) {
+        if (keyword.contains(DateRange.RANGE_SEPARATOR)) {
+            return DateRange.isValidDateRange(keyword)
+                    && DateRange.parse(keyword).contains(event.getDate().toLocalDateTime());
+        }
+        return event.getDate().value.startsWith(keyword);
     }
 
     @Override
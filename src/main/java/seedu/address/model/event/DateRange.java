@@ -0,0 +1,144 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+
+/**
+ * Represents a span of event date-times, from an inclusive start to an exclusive end.
+ * A range is written either as a single partial date (e.g. {@code 2025-03}, covering all of March 2025) or as two
+ * partial dates joined by {@code ..} (e.g. {@code 2025-01..2025-03}, covering January to March 2025).
+ * Guarantees: immutable; start is before end; is valid as declared in {@link #isValidDateRange(String)}
+ */
+public class DateRange {
+
+    public static final String RANGE_SEPARATOR = "..";
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Date ranges should be written as START..END, where START and END are partial dates "
+                    + "(e.g. 2025-01..2025-03) and START does not come after END.";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    private DateRange(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses {@code text} into a {@code DateRange}.
+     *
+     * @throws IllegalArgumentException if {@code text} is not a valid date range.
+     */
+    public static DateRange parse(String text) {
+        requireNonNull(text);
+        checkArgument(isValidDateRange(text), MESSAGE_CONSTRAINTS);
+
+        int separatorIndex = text.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex == -1) {
+            return new DateRange(startOf(text), endOf(text));
+        }
+        return new DateRange(startOf(text.substring(0, separatorIndex)),
+                endOf(text.substring(separatorIndex + RANGE_SEPARATOR.length())));
+    }
+
+    /**
+     * Returns true if a given string is a valid partial date, or two valid partial dates joined by
+     * {@value #RANGE_SEPARATOR} where the first does not come after the second.
+     */
+    public static boolean isValidDateRange(String test) {
+        int separatorIndex = test.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex == -1) {
+            return Date.isValidPartialDate(test);
+        }
+
+        String from = test.substring(0, separatorIndex);
+        String to = test.substring(separatorIndex + RANGE_SEPARATOR.length());
+        return Date.isValidPartialDate(from) && Date.isValidPartialDate(to) && startOf(from).isBefore(endOf(to));
+    }
+
+    /**
+     * Returns the earliest date-time covered by this range.
+     */
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the earliest date-time after this range.
+     */
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns true if {@code dateTime} falls within this range.
+     */
+    public boolean contains(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return !dateTime.isBefore(start) && dateTime.isBefore(end);
+    }
+
+    /**
+     * Returns the first minute covered by the valid partial date {@code partialDate}.
+     */
+    private static LocalDateTime startOf(String partialDate) {
+        switch (partialDate.length()) {
+        case 4:
+            return Year.parse(partialDate, Date.YEAR_FORMATTER).atDay(1).atStartOfDay();
+        case 7:
+            return YearMonth.parse(partialDate, Date.YEAR_MONTH_FORMATTER).atDay(1).atStartOfDay();
+        case 10:
+            return LocalDate.parse(partialDate, Date.DATE_FORMATTER).atStartOfDay();
+        default:
+            return LocalDateTime.parse(partialDate, Date.DATETIME_FORMATTER);
+        }
+    }
+
+    /**
+     * Returns the first minute after the valid partial date {@code partialDate}.
+     */
+    private static LocalDateTime endOf(String partialDate) {
+        LocalDateTime start = startOf(partialDate);
+        switch (partialDate.length()) {
+        case 4:
+            return start.plusYears(1);
+        case 7:
+            return start.plusMonths(1);
+        case 10:
+            return start.plusDays(1);
+        default:
+            return start.plusMinutes(1);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DateRange)) {
+            return false;
+        }
+
+        DateRange otherDateRange = (DateRange) other;
+        return start.equals(otherDateRange.start) && end.equals(otherDateRange.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return start.hashCode() * 31 + end.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ")";
+    }
+}
@@ -2,13 +2,15 @@ package seedu.address.model.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.MemberId;
 
 /**
  * Represents an Event in the application.
@@ -16,29 +18,39 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class Event {
 
+    /** Separator used when the attendees are displayed, and by the legacy single-string attendance format. */
     public static final String ATTENDANCE_DELIMITER = ", ";
 
     private final EventName name;
     private final Date date;
     private final Venue venue;
-    private final String attendanceList;
+    private final Set<MemberId> attendees;
 
     /**
      * Creates an Event. All fields must be non-null and valid.
      */
     public Event(EventName name, Date date, Venue venue) {
-        this(name, date, venue, "");
+        this(name, date, venue, Collections.emptySet());
     }
 
     /**
-     * Creates an Event with attendance list. All fields must be non-null and valid.
+     * Creates an Event attended by the members with the given ids, kept in the order given.
+     * All fields must be non-null and valid; a null {@code attendees} is treated as no attendees.
      */
-    public Event(EventName name, Date date, Venue venue, String attendanceList) {
+    public Event(EventName name, Date date, Venue venue, Collection<MemberId> attendees) {
+        this(name, date, venue, attendees == null ? Collections.emptySet() : new LinkedHashSet<>(attendees));
+    }
+
+    /**
+     * Creates an Event that takes over {@code attendees}, a set built for it alone, without copying it.
+     * The set must not be changed afterwards.
+     */
+    private Event(EventName name, Date date, Venue venue, Set<MemberId> attendees) {
         requireAllNonNull(name, date, venue);
         this.name = name;
         this.date = date;
         this.venue = venue;
-        this.attendanceList = attendanceList != null ? attendanceList : "";
+        this.attendees = attendees.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(attendees);
     }
 
     public EventName getName() {
@@ -53,80 +65,62 @@ public class Event {
         return venue;
     }
 
-    public String getAttendanceList() {
-        return attendanceList;
-    }
-
     /**
-     * Returns the attendees as an immutable list. Returns an empty list if there are no attendees.
+     * Returns the ids of the attending members as an immutable set, in the order they were marked.
+     * Returns an empty set if there are no attendees.
      */
-    public List<String> getAttendees() {
-        if (attendanceList.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return Arrays.asList(attendanceList.split(ATTENDANCE_DELIMITER));
+    public Set<MemberId> getAttendees() {
+        return attendees;
     }
 
     /**
-     * Returns true if the given name is present in the attendance list.
+     * Returns true if the member with the given id is present in the attendance list.
      */
-    public boolean hasAttendee(String entry) {
-        for (String attendee : getAttendees()) {
-            if (attendee.equals(entry)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean hasAttendee(MemberId memberId) {
+        return attendees.contains(memberId);
     }
 
     /**
-     * Returns a new Event with updated attendance list.
+     * Returns a new Event attended by the members with the given ids.
+     * Commands that change the attendance of many members at once should make one call to this method rather than
+     * one call to {@link #addToAttendanceList} or {@link #removeFromAttendanceList} per member, as each call copies
+     * the attendees.
      */
-    public Event withAttendanceList(String newAttendanceList) {
-        return new Event(name, date, venue, newAttendanceList);
+    public Event withAttendees(Collection<MemberId> newAttendees) {
+        return new Event(name, date, venue, newAttendees);
     }
 
     /**
-     * Adds an attendee entry to the attendance list.
+     * Adds a member id to the attendance list.
      */
-    public Event addToAttendanceList(String attendeeEntry) {
-        if (attendanceList.isEmpty()) {
-            return withAttendanceList(attendeeEntry);
-        } else {
-            return withAttendanceList(attendanceList + ATTENDANCE_DELIMITER + attendeeEntry);
+    public Event addToAttendanceList(MemberId memberId) {
+        if (hasAttendee(memberId)) {
+            return this;
         }
+        Set<MemberId> updated = new LinkedHashSet<>(attendees);
+        updated.add(memberId);
+        return new Event(name, date, venue, updated);
     }
 
     /**
-     * Removes an attendee entry from the attendance list.
+     * Removes a member id from the attendance list.
      */
-    public Event removeFromAttendanceList(String attendeeEntry) {
-        if (attendanceList.isEmpty()) {
+    public Event removeFromAttendanceList(MemberId memberId) {
+        if (!hasAttendee(memberId)) {
             return this;
         }
-
-        List<String> filtered = new ArrayList<>();
-        for (String member : getAttendees()) {
-            if (!member.equals(attendeeEntry)) {
-                filtered.add(member);
-            }
-        }
-
-        return withAttendanceList(String.join(ATTENDANCE_DELIMITER, filtered));
+        Set<MemberId> updated = new LinkedHashSet<>(attendees);
+        updated.remove(memberId);
+        return new Event(name, date, venue, updated);
     }
 
     /**
-     * Replaces an attendee entry with a new entry in the attendance list.
+     * Returns the key identifying this event by date and venue. Venues are compared case-insensitively,
+     * so two events share a key exactly when {@link #isSameEvent(Event)} holds between them, whatever the default
+     * locale.
      */
-    public Event replaceAttendeeEntry(String oldEntry, String newEntry) {
-        if (attendanceList.isEmpty() || !hasAttendee(oldEntry)) {
-            return this;
-        }
-        List<String> updated = new ArrayList<>();
-        for (String attendee : getAttendees()) {
-            updated.add(attendee.equals(oldEntry) ? newEntry : attendee);
-        }
-        return withAttendanceList(String.join(ATTENDANCE_DELIMITER, updated));
+    public String getIdentityKey() {
+        return date.value + "@" + venue.value.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -153,7 +147,7 @@ public class Event {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, date, venue, attendanceList);
+        return Objects.hash(name, date, venue, attendees);
     }
 
     @Override
@@ -162,7 +156,7 @@ public class Event {
                 .add("name", name)
                 .add("date", date)
                 .add("venue", venue)
-                .add("attendanceList", attendanceList)
+                .add("attendees", attendees)
                 .toString();
     }
 }
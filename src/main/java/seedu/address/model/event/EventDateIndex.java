@@ -0,0 +1,89 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * An index of events ordered by their date-time, so the events within a {@code DateRange} are found by a sub-map
+ * lookup instead of by checking every event. Events are tracked by identity, so the exact instance that was added
+ * must be passed back when removing it.
+ */
+class EventDateIndex {
+
+    private final NavigableMap<LocalDateTime, Set<Event>> eventsByDateTime = new TreeMap<>();
+    private int version;
+
+    /**
+     * Records {@code event} under its date-time.
+     */
+    void add(Event event) {
+        requireNonNull(event);
+        eventsByDateTime.computeIfAbsent(event.getDate().toLocalDateTime(),
+                unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(event);
+        version++;
+    }
+
+    /**
+     * Removes {@code event} from under its date-time.
+     */
+    void remove(Event event) {
+        requireNonNull(event);
+        LocalDateTime dateTime = event.getDate().toLocalDateTime();
+        Set<Event> events = eventsByDateTime.get(dateTime);
+        if (events != null && events.remove(event) && events.isEmpty()) {
+            eventsByDateTime.remove(dateTime);
+        }
+        version++;
+    }
+
+    /**
+     * Removes all events from the index.
+     */
+    void clear() {
+        eventsByDateTime.clear();
+        version++;
+    }
+
+    /**
+     * Returns the events whose date-time falls within any of {@code ranges}.
+     */
+    Set<Event> findWithin(Collection<DateRange> ranges) {
+        requireNonNull(ranges);
+        Set<Event> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DateRange range : ranges) {
+            eventsByDateTime.subMap(range.getStart(), true, range.getEnd(), false).values().forEach(matches::addAll);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that holds for the events whose date-time falls within any of {@code ranges}.
+     * The predicate keeps reflecting this index as it changes; the matching events are looked up again only when
+     * the index has changed since the predicate was last tested.
+     */
+    Predicate<Event> matcherFor(Collection<DateRange> ranges) {
+        List<DateRange> rangesCopy = List.copyOf(ranges);
+        return new Predicate<>() {
+            private int matchesVersion = version - 1;
+            private Set<Event> matches;
+
+            @Override
+            public boolean test(Event event) {
+                if (matchesVersion != version) {
+                    matches = findWithin(rangesCopy);
+                    matchesVersion = version;
+                }
+                return matches.contains(event);
+            }
+        };
+    }
+}
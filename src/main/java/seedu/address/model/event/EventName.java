@@ -3,6 +3,10 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents an Event's name.
  * Guarantees: immutable; is valid as declared in {@link #isValidEventName(String)}
@@ -15,17 +19,33 @@ public class EventName {
 
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile(" +");
+
     public final String fullName;
 
     /**
      * Creates a Name after validating constraints.
      */
     public EventName(String name) {
+        this(name, true);
+    }
+
+    private EventName(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidEventName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidEventName(name), MESSAGE_CONSTRAINTS);
+        }
         this.fullName = name;
     }
 
+    /**
+     * Returns a {@code EventName} of {@code name} without checking it, for a event name already known to be valid,
+     * such as one read back from a file the app saved itself.
+     */
+    public static EventName ofTrusted(String name) {
+        return new EventName(name, false);
+    }
+
     /**
      * Returns a lowercase, space-normalized version of {@code fullName} for identity comparison.
      */
@@ -41,11 +61,11 @@ public class EventName {
     public static String normalizeWhitespace(String input) {
         requireNonNull(input);
         String trimmed = input.trim();
-        return trimmed.replaceAll(" +", " ");
+        return MULTIPLE_SPACES.matcher(trimmed).replaceAll(" ");
     }
 
     public static boolean isValidEventName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 35;
+        return ValidationUtil.isAlphanumericWithSpaces(test) && test.length() <= 35;
     }
 
     @Override
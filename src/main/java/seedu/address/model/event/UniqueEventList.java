@@ -3,13 +3,20 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +25,41 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of a person uses Event#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Events are indexed by their (date, venue) identity, mapped to their position in the backing list, so identity
+ * checks and lookups of the event to replace or remove do not scan the list. Events are also indexed by date-time,
+ * so date searches are answered by range lookups. The date index is updated before the backing list, so listeners
+ * notified of a change already see an index that includes it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Event> internalList = new BatchedObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Position in {@code internalList} of each event, keyed by {@link Event#getIdentityKey()}. */
+    private final Map<String, Integer> positionIndex = new HashMap<>();
+    /** Events in {@code internalList} ordered by date-time. */
+    private final EventDateIndex dateIndex = new EventDateIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return positionIndex.containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns the event in the list equal to {@code event}, as it is stored in the list.
+     */
+    public Optional<Event> find(Event event) {
+        requireNonNull(event);
+        Integer index = positionIndex.get(event.getIdentityKey());
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -45,6 +71,8 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
+        positionIndex.put(toAdd.getIdentityKey(), internalList.size());
+        dateIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,16 +84,23 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        String targetKey = target.getIdentityKey();
+        Integer index = positionIndex.get(targetKey);
+        if (index == null) {
             throw new EventNotFoundException();
         }
 
-        if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
+        String editedKey = editedEvent.getIdentityKey();
+        Integer clashingIndex = positionIndex.get(editedKey);
+        if (clashingIndex != null && !clashingIndex.equals(index)) {
             throw new DuplicateEventException();
         }
 
+        dateIndex.remove(internalList.get(index));
+        dateIndex.add(editedEvent);
         internalList.set(index, editedEvent);
+        positionIndex.remove(targetKey);
+        positionIndex.put(editedKey, index);
     }
 
     /**
@@ -74,14 +109,24 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positionIndex.remove(toRemove.getIdentityKey());
+        if (index == null) {
             throw new EventNotFoundException();
         }
+
+        dateIndex.remove(internalList.get(index));
+        internalList.remove(index.intValue());
+        // Events after the removed one have shifted down by one position
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getIdentityKey(), i);
+        }
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
+        rebuildDateIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -94,7 +139,46 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
+        rebuildDateIndex(events);
         internalList.setAll(events);
+        rebuildIndex();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code events}, which are already known to be distinct, such as
+     * the events of an address book the app saved itself. Unlike {@link #setEvents(List)}, they are not checked.
+     */
+    public void setTrustedEvents(List<Event> events) {
+        rebuildDateIndex(events);
+        internalList.setAll(events);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns a predicate that holds for the events in this list whose date-time falls within any of
+     * {@code ranges}. It is answered from the date index and stays accurate as the list changes.
+     */
+    public Predicate<Event> dateMatcherFor(List<DateRange> ranges) {
+        requireAllNonNull(ranges);
+        return dateIndex.matcherFor(ranges);
+    }
+
+    /**
+     * Starts grouping changes to this list, so that listeners are notified of them once when the batch ends.
+     *
+     * @see BatchedObservableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the innermost batch started with {@link #beginBatch()}.
+     *
+     * @see BatchedObservableList#endBatch()
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -138,13 +222,24 @@ public class UniqueEventList implements Iterable<Event> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<String> seenKeys = new HashSet<>();
+        for (Event event : events) {
+            if (!seenKeys.add(event.getIdentityKey())) {
+                return false;
             }
         }
         return true;
     }
+
+    private void rebuildDateIndex(List<Event> events) {
+        dateIndex.clear();
+        events.forEach(dateIndex::add);
+    }
+
+    private void rebuildIndex() {
+        positionIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getIdentityKey(), i);
+        }
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Venue string for an Event.
  * Immutable and validated (non-empty, allows most characters).
@@ -22,13 +24,27 @@ public class Venue {
      * Creates a Venue after validating constraints.
      */
     public Venue(String value) {
+        this(value, true);
+    }
+
+    private Venue(String value, boolean isChecked) {
         requireNonNull(value);
-        checkArgument(isValidVenue(value), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidVenue(value), MESSAGE_CONSTRAINTS);
+        }
         this.value = value;
     }
 
+    /**
+     * Returns a {@code Venue} of {@code value} without checking it, for a venue already known to be valid,
+     * such as one read back from a file the app saved itself.
+     */
+    public static Venue ofTrusted(String value) {
+        return new Venue(value, false);
+    }
+
     public static boolean isValidVenue(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 75;
+        return ValidationUtil.isNonBlankLine(test) && test.length() <= 75;
     }
 
     @Override
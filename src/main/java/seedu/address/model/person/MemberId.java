@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents a member's surrogate identifier in the address book.
+ * It is assigned once when the member is added and never changes, so records such as event attendance can refer
+ * to the member regardless of later edits to their details.
+ * Guarantees: immutable; is valid as declared in {@link #isValidMemberId(int)}
+ */
+public class MemberId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Member ids should be positive integers.";
+
+    public final int value;
+
+    /**
+     * Constructs a {@code MemberId}.
+     *
+     * @param id A valid member id.
+     */
+    public MemberId(int id) {
+        checkArgument(isValidMemberId(id), MESSAGE_CONSTRAINTS);
+        value = id;
+    }
+
+    /**
+     * Returns true if a given integer is a valid member id.
+     */
+    public static boolean isValidMemberId(int test) {
+        return test > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MemberId)) {
+            return false;
+        }
+
+        MemberId otherMemberId = (MemberId) other;
+        return value == otherMemberId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,9 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "^(?=.*[A-Za-zÀ-ÖØ-öø-ÿ])[A-Za-zÀ-ÖØ-öø-ÿ'’\\-./\\s]+$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile(" +");
+
     public final String fullName;
 
     /**
@@ -27,16 +32,30 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without checking it, for a name already known to be valid,
+     * such as one read back from a file the app saved itself.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 35;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= 35;
     }
 
     /**
@@ -46,7 +65,7 @@ public class Name {
     public static String normalizeWhitespace(String input) {
         requireNonNull(input);
         String trimmed = input.trim();
-        return trimmed.replaceAll(" +", " ");
+        return MULTIPLE_SPACES.matcher(trimmed).replaceAll(" ");
     }
 
     @Override
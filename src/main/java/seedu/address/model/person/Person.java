@@ -22,6 +22,9 @@ public class Person {
     private final Role role;
     private final int attendanceCount;
 
+    // Assigned by the address book when the person is added
+    private final MemberId id;
+
     /**
      * Every field must be present and not null.
      */
@@ -33,6 +36,14 @@ public class Person {
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Year year, Role role, int attendanceCount) {
+        this(name, phone, email, year, role, attendanceCount, null);
+    }
+
+    /**
+     * Every field except {@code id} must be present and not null.
+     * A null {@code id} means the person has not been assigned one by an address book yet.
+     */
+    public Person(Name name, Phone phone, Email email, Year year, Role role, int attendanceCount, MemberId id) {
         requireAllNonNull(name, phone, email, year, role);
         this.name = name;
         this.phone = phone;
@@ -40,6 +51,7 @@ public class Person {
         this.year = year;
         this.role = role;
         this.attendanceCount = attendanceCount;
+        this.id = id;
     }
 
     public Name getName() {
@@ -63,10 +75,14 @@ public class Person {
     }
 
     /**
-     * Returns the canonical value used in event attendance lists to uniquely identify this person.
+     * Returns the member id referenced by event attendance lists, or null if none has been assigned yet.
      */
-    public String getAttendanceKey() {
-        return String.format("%s [%s]", name.fullName, phone.value);
+    public MemberId getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != null;
     }
 
     /**
@@ -81,7 +97,14 @@ public class Person {
      * Returns a new Person with updated attendance count.
      */
     public Person withAttendanceCount(int newAttendanceCount) {
-        return new Person(name, phone, email, year, role, newAttendanceCount);
+        return new Person(name, phone, email, year, role, newAttendanceCount, id);
+    }
+
+    /**
+     * Returns a new Person with the given member id.
+     */
+    public Person withId(MemberId newId) {
+        return new Person(name, phone, email, year, role, attendanceCount, newId);
     }
 
     /**
@@ -105,6 +128,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The member id is a storage handle rather than data, so it is not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable
@@ -13,8 +17,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS_LENGTH = "Phone number must be exactly 8 digits.";
     public static final String MESSAGE_CONSTRAINTS_START = "Phone number must start with 8 or 9.";
     public static final String MESSAGE_CONSTRAINTS_SPACES = "Phone number must not contain spaces between the digits.";
-    private static final String DIGITS_ONLY_REGEX = "\\d+";
-    private static final String INTERNAL_WHITESPACE_REGEX = ".*\\s+.*";
+    private static final Pattern INTERNAL_WHITESPACE_PATTERN = Pattern.compile(".*\\s+.*");
     private static final int REQUIRED_LENGTH = 8;
 
     public final String value;
@@ -25,20 +28,34 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean isChecked) {
         requireNonNull(phone);
-        checkArgument(!hasInternalWhitespace(phone), MESSAGE_CONSTRAINTS_SPACES);
-        checkArgument(isDigitsOnly(phone), MESSAGE_CONSTRAINTS_NUMBER);
-        checkArgument(isValidLength(phone), MESSAGE_CONSTRAINTS_LENGTH);
-        checkArgument(isValidStart(phone), MESSAGE_CONSTRAINTS_START);
+        if (isChecked) {
+            checkArgument(!hasInternalWhitespace(phone), MESSAGE_CONSTRAINTS_SPACES);
+            checkArgument(isDigitsOnly(phone), MESSAGE_CONSTRAINTS_NUMBER);
+            checkArgument(isValidLength(phone), MESSAGE_CONSTRAINTS_LENGTH);
+            checkArgument(isValidStart(phone), MESSAGE_CONSTRAINTS_START);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone} without checking it, for a phone number already known to be valid,
+     * such as one read back from a file the app saved itself.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, false);
+    }
+
     // 1
     /**
      * Returns true if a given string has no internal whitespace.
      */
     public static boolean hasInternalWhitespace(String test) {
-        return test.matches(INTERNAL_WHITESPACE_REGEX);
+        return INTERNAL_WHITESPACE_PATTERN.matcher(test).matches();
     }
 
     // 2
@@ -46,7 +63,7 @@ public class Phone {
      * Returns true if a given string contains only digits.
      */
     public static boolean isDigitsOnly(String test) {
-        return test.matches(DIGITS_ONLY_REGEX);
+        return ValidationUtil.isDigits(test);
     }
 
     // 3
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Role in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidRoleName(String)}
@@ -13,6 +17,8 @@ public class Role {
             + "and the input must be at most 35 characters long (excluding leading and trailing spaces).";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile(" +");
+
     public final String roleName;
 
     /**
@@ -20,16 +26,30 @@ public class Role {
      * @param roleName A valid role name.
      */
     public Role(String roleName) {
+        this(roleName, true);
+    }
+
+    private Role(String roleName, boolean isChecked) {
         requireNonNull(roleName);
-        checkArgument(isValidRoleName(roleName), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidRoleName(roleName), MESSAGE_CONSTRAINTS);
+        }
         this.roleName = roleName;
     }
 
+    /**
+     * Returns a {@code Role} of {@code roleName} without checking it, for a role name already known to be valid,
+     * such as one read back from a file the app saved itself.
+     */
+    public static Role ofTrusted(String roleName) {
+        return new Role(roleName, false);
+    }
+
     /**
      * Returns true if a given string is a valid role name.
      */
     public static boolean isValidRoleName(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= 35;
+        return ValidationUtil.isAlphanumericWithSpaces(test) && test.length() <= 35;
     }
 
     /**
@@ -39,7 +59,7 @@ public class Role {
     public static String normalizeWhitespace(String input) {
         requireNonNull(input);
         String trimmed = input.trim();
-        return trimmed.replaceAll(" +", " ");
+        return MULTIPLE_SPACES.matcher(trimmed).replaceAll(" ");
     }
 
     @Override
@@ -3,13 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
+import seedu.address.model.util.TokenIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +28,45 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so as to ensure
  * that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered by hash indexes on phone number and (lower-cased) email address, which are kept in
+ * sync with the backing list on every mutation, so checking for duplicates costs O(1) per person. Keyword searches
+ * on names and roles are answered by word indexes maintained the same way. Indexes are updated before the backing
+ * list, so listeners notified of a change already see indexes that include it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Persons in {@code internalList} keyed by their phone number. */
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+    /** Persons in {@code internalList} keyed by their lower-cased email address. */
+    private final Map<String, Person> emailIndex = new HashMap<>();
+    /** Persons in {@code internalList} keyed by the words of their name. */
+    private final TokenIndex<Person> nameIndex = new TokenIndex<>();
+    /** Persons in {@code internalList} keyed by the words of their role. */
+    private final TokenIndex<Person> roleIndex = new TokenIndex<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone()) || emailIndex.containsKey(toEmailKey(toCheck));
+    }
+
+    /**
+     * Returns the person in the list equal to {@code person}, as it is stored in the list.
+     */
+    public Optional<Person> find(Person person) {
+        requireNonNull(person);
+        Person stored = phoneIndex.get(person.getPhone());
+        return stored != null && stored.equals(person) ? Optional.of(stored) : Optional.empty();
     }
 
     /**
@@ -46,6 +78,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
@@ -62,10 +95,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existing = internalList.get(index);
+        if (clashesWithOtherPerson(editedPerson, existing)) {
             throw new DuplicatePersonException();
         }
 
+        unindex(existing);
+        index(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -75,13 +111,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -95,9 +135,55 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces the contents of this list with {@code persons}, which are already known to be distinct, such as
+     * the persons of an address book the app saved itself. Unlike {@link #setPersons(List)}, they are not checked.
+     */
+    public void setTrustedPersons(List<Person> persons) {
+        rebuildIndexes(persons);
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Returns a predicate that holds for the persons in this list whose name contains any of {@code keywords}
+     * as a whole word, ignoring case. It is answered from the name index and stays accurate as the list changes.
+     */
+    public Predicate<Person> nameMatcherFor(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameIndex.matcherFor(keywords);
+    }
+
+    /**
+     * Returns a predicate that holds for the persons in this list whose role contains any of {@code keywords}
+     * as a whole word, ignoring case. It is answered from the role index and stays accurate as the list changes.
+     */
+    public Predicate<Person> roleMatcherFor(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return roleIndex.matcherFor(keywords);
+    }
+
+    /**
+     * Starts grouping changes to this list, so that listeners are notified of them once when the batch ends.
+     *
+     * @see BatchedObservableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the innermost batch started with {@link #beginBatch()}.
+     *
+     * @see BatchedObservableList#endBatch()
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -139,13 +225,53 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Phone> seenPhones = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenPhones.add(person.getPhone()) || !seenEmails.add(toEmailKey(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns true if {@code candidate} shares its phone number or email address with a person in the list
+     * other than {@code self}.
+     */
+    private boolean clashesWithOtherPerson(Person candidate, Person self) {
+        Person phoneOwner = phoneIndex.get(candidate.getPhone());
+        Person emailOwner = emailIndex.get(toEmailKey(candidate));
+        return (phoneOwner != null && phoneOwner != self) || (emailOwner != null && emailOwner != self);
+    }
+
+    private void index(Person person) {
+        phoneIndex.put(person.getPhone(), person);
+        emailIndex.put(toEmailKey(person), person);
+        nameIndex.add(person, person.getName().fullName);
+        roleIndex.add(person, person.getRole().roleName);
+    }
+
+    private void unindex(Person person) {
+        phoneIndex.remove(person.getPhone());
+        emailIndex.remove(toEmailKey(person));
+        nameIndex.remove(person, person.getName().fullName);
+        roleIndex.remove(person, person.getRole().roleName);
+    }
+
+    private void rebuildIndexes(List<Person> persons) {
+        phoneIndex.clear();
+        emailIndex.clear();
+        nameIndex.clear();
+        roleIndex.clear();
+        persons.forEach(this::index);
+    }
+
+    /**
+     * Returns the key used by the email index. Mirrors the case-insensitive comparison in
+     * {@link Person#isSamePerson(Person)}, whatever the default locale.
+     */
+    private static String toEmailKey(Person person) {
+        return person.getEmail().value.toLowerCase(Locale.ROOT);
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's academic year in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidYear(String)}
@@ -20,16 +22,30 @@ public class Year {
      * @param year A valid year.
      */
     public Year(String year) {
+        this(year, true);
+    }
+
+    private Year(String year, boolean isChecked) {
         requireNonNull(year);
-        checkArgument(isValidYear(year), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidYear(year), MESSAGE_CONSTRAINTS);
+        }
         value = year;
     }
 
+    /**
+     * Returns a {@code Year} of {@code year} without checking it, for a year already known to be valid,
+     * such as one read back from a file the app saved itself.
+     */
+    public static Year ofTrusted(String year) {
+        return new Year(year, false);
+    }
+
     /**
      * Returns true if a given string is a valid year value.
      */
     public static boolean isValidYear(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isCharInRange(test, '1', '5');
     }
 
     @Override
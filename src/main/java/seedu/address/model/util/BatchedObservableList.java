@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} whose changes can be grouped into batches.
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} are reported to listeners as a single change
+ * when the outermost batch ends, rather than as one change per mutation. Batches may be nested.
+ *
+ * The list itself is always up to date, but lists derived from it (such as a {@code FilteredList}) only catch up
+ * when the batch ends, so they should not be read or re-filtered during a batch.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> backingList = new ArrayList<>();
+
+    /**
+     * Starts grouping changes to this list.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the innermost batch, notifying listeners of the grouped changes if it was the outermost one.
+     *
+     * @throws IllegalStateException if no batch was started.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * An inverted index from the case-folded words of some text to the items that text belongs to.
+ * Items are tracked by identity, so the exact instance that was added must be passed back when removing it.
+ *
+ * A word matches an item exactly when {@code StringUtil#containsWordIgnoreCase} would find it in the item's text.
+ */
+public class TokenIndex<T> {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private int version;
+
+    /**
+     * Records {@code item} under every word of {@code text}.
+     */
+    public void add(T item, String text) {
+        requireNonNull(item);
+        for (String token : tokenize(text)) {
+            postings.computeIfAbsent(token, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code item} from under every word of {@code text}, which should be the text it was added with.
+     */
+    public void remove(T item, String text) {
+        requireNonNull(item);
+        for (String token : tokenize(text)) {
+            Set<T> items = postings.get(token);
+            if (items != null && items.remove(item) && items.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes all items from the index.
+     */
+    public void clear() {
+        postings.clear();
+        version++;
+    }
+
+    /**
+     * Returns the items whose text contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<T> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(postings.getOrDefault(fold(keyword.trim()), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that holds for the items whose text contains any of {@code keywords} as a whole word,
+     * ignoring case. The predicate keeps reflecting this index as it changes; the union of the keywords' postings
+     * is recomputed only when the index has changed since the predicate was last tested.
+     */
+    public Predicate<T> matcherFor(Collection<String> keywords) {
+        List<String> keywordsCopy = List.copyOf(keywords);
+        return new Predicate<>() {
+            private int matchesVersion = version - 1;
+            private Set<T> matches;
+
+            @Override
+            public boolean test(T item) {
+                if (matchesVersion != version) {
+                    matches = findAny(keywordsCopy);
+                    matchesVersion = version;
+                }
+                return matches.contains(item);
+            }
+        };
+    }
+
+    private static List<String> tokenize(String text) {
+        requireNonNull(text);
+        return WHITESPACE.splitAsStream(text)
+                .filter(token -> !token.isEmpty())
+                .map(TokenIndex::fold)
+                .toList();
+    }
+
+    /**
+     * Folds {@code word} so that two words fold alike exactly when {@link String#equalsIgnoreCase} holds for them,
+     * which compares each character upper-cased and then lower-cased.
+     */
+    private static String fold(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        int i = 0;
+        while (i < word.length()) {
+            int codePoint = word.codePointAt(i);
+            folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+            i += Character.charCount(codePoint);
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Jackson-friendly record of the contents of an address book file as the app saved it, kept in a file next to it.
+ * A file whose contents still match its checksum was written by the app from a valid address book, so it can be
+ * loaded without checking its persons and events again. A file that was edited by hand, or whose checksum is
+ * missing or was written for another schema version, is checked in full.
+ *
+ * The checksum is a CRC-32C, which the JVM computes with hardware instructions where available, so that checking it
+ * costs much less than the checks it replaces. It detects accidental edits, not deliberate forgeries.
+ */
+class AddressBookChecksum {
+
+    public static final String CHECKSUM_SUFFIX = ".checksum";
+
+    /**
+     * Version of the rules that saved address books are known to satisfy. Increase it whenever those rules become
+     * stricter, so that files saved under the old rules are checked in full once.
+     */
+    public static final int SCHEMA_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookChecksum.class);
+
+    private final int schemaVersion;
+    private final long crc32c;
+
+    /**
+     * Constructs an {@code AddressBookChecksum} with the given details.
+     */
+    @JsonCreator
+    public AddressBookChecksum(@JsonProperty("schemaVersion") int schemaVersion,
+                               @JsonProperty("crc32c") long crc32c) {
+        this.schemaVersion = schemaVersion;
+        this.crc32c = crc32c;
+    }
+
+    /**
+     * Returns the file that holds the checksum of the address book file at {@code filePath}.
+     */
+    public static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_SUFFIX);
+    }
+
+    /**
+     * Returns a new, empty checksum of the kind recorded by this class, to be updated with the bytes of an address
+     * book file as the app writes it.
+     */
+    public static Checksum newChecksum() {
+        return new CRC32C();
+    }
+
+    /**
+     * Records the contents of the address book file at {@code filePath}, which the app has just written, as summed
+     * up by {@code checksum} while they were written.
+     */
+    public static void save(Path filePath, Checksum checksum) throws IOException {
+        JsonUtil.saveJsonFile(new AddressBookChecksum(SCHEMA_VERSION, checksum.getValue()),
+                getChecksumFilePath(filePath));
+    }
+
+    /**
+     * Moves the checksum of the address book file at {@code source} along with the file, which has been moved to
+     * {@code target}.
+     */
+    public static void move(Path source, Path target) throws IOException {
+        Files.move(getChecksumFilePath(source), getChecksumFilePath(target), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns true if {@code content}, read from the address book file at {@code filePath}, is exactly what the app
+     * last saved there under the current schema version.
+     * The position of {@code content} is left unchanged.
+     */
+    public static boolean isUnchanged(Path filePath, ByteBuffer content) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!Files.exists(checksumFilePath)) {
+            return false;
+        }
+
+        try {
+            Optional<AddressBookChecksum> checksum = JsonUtil.readJsonFile(checksumFilePath,
+                    AddressBookChecksum.class);
+            return checksum.isPresent() && checksum.get().schemaVersion == SCHEMA_VERSION
+                    && checksum(content) == checksum.get().crc32c;
+        } catch (DataLoadingException e) {
+            logger.info("Ignoring unreadable checksum " + checksumFilePath + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static long checksum(ByteBuffer content) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(content.duplicate());
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,442 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
+import seedu.address.model.event.Venue;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Year;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and a format version. A table of the distinct years, roles and venues
+ * follows, so that each is stored once and referred to by its position in the table. Then come the persons, the
+ * events and the id to be given to the next member. Strings are stored as their length in bytes followed by their
+ * UTF-8 encoding. Files are decoded straight from a buffer of their contents, which is a memory mapping for large
+ * files.
+ *
+ * Each save also writes an {@link AddressBookChecksum}, so that a file that has not changed since is loaded without
+ * checking its contents again.
+ *
+ * Files in the json format, with any journal written by {@link JsonJournalAddressBookStorage}, are also read, so
+ * the address book can be switched between formats. A binary file is kept apart from the json file it was converted
+ * from, at {@link #getBinaryFilePath(Path)}, so that a file named as json always holds json. The json file is read
+ * while it exists, as it was written after the last binary save, and removed by the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every binary address book file; "CCAB" in ASCII. */
+    public static final int MAGIC = 0x43434142;
+    public static final int FORMAT_VERSION = 2;
+    /** The format before the next member id was stored, which is still read. */
+    private static final int FORMAT_VERSION_WITHOUT_NEXT_MEMBER_ID = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book file has unsupported version %d.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book file is corrupted.";
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int NO_MEMBER_ID = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, filePath);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} of the file at {@code filePath}, which replaces the address book
+     * file at {@code jsonFilePath} that was saved in another format.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = requireNonNull(filePath);
+        this.jsonFilePath = requireNonNull(jsonFilePath);
+    }
+
+    /**
+     * Returns the file that the address book saved at {@code jsonFilePath} is kept in when it is saved in the binary
+     * format: the same file with the extension {@value #FILE_EXTENSION} in place of its own.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} is a binary address book file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(filePath))) {
+            return input.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (hasJsonFile()) {
+            return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        // Reads files in either format, with any journal
+        return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the binary address book file at {@code filePath}, ignoring any journal next to it.
+     *
+     * @throws DataLoadingException if the file could not be read or its data violates any constraints.
+     */
+    static ReadOnlyAddressBook readBinaryFile(Path filePath) throws DataLoadingException {
+        try {
+            ByteBuffer content = FileUtil.readToBuffer(filePath);
+            if (AddressBookChecksum.isUnchanged(filePath, content)) {
+                return readTrusted(content);
+            }
+            return read(content).toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} in the binary format, then removes the json file that it replaces, if any.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+        if (hasJsonFile()) {
+            JsonJournalAddressBookStorage.deleteJournals(jsonFilePath);
+            Files.deleteIfExists(AddressBookChecksum.getChecksumFilePath(jsonFilePath));
+            Files.deleteIfExists(jsonFilePath);
+        }
+    }
+
+    private boolean hasJsonFile() {
+        return !jsonFilePath.equals(filePath)
+                && (Files.exists(jsonFilePath) || JsonJournalAddressBookStorage.hasJournal(jsonFilePath));
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Any journal of an earlier json file at {@code filePath} is discarded, as it does not apply to the new file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        FileUtil.createParentDirsOfFile(tempFilePath);
+        Checksum checksum = AddressBookChecksum.newChecksum();
+        try (DataOutputStream output = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFilePath)), checksum))) {
+            write(addressBook, output);
+        }
+
+        JsonJournalAddressBookStorage.deleteJournals(filePath);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        AddressBookChecksum.save(filePath, checksum);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream output) throws IOException {
+        Map<String, Integer> stringTable = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            addToTable(person.getYear().value, stringTable, strings);
+            addToTable(person.getRole().roleName, stringTable, strings);
+        }
+        for (Event event : addressBook.getEventList()) {
+            addToTable(event.getVenue().value, stringTable, strings);
+        }
+
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(string, output);
+        }
+
+        output.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writeString(person.getName().fullName, output);
+            writeString(person.getPhone().value, output);
+            writeString(person.getEmail().value, output);
+            output.writeInt(stringTable.get(person.getYear().value));
+            output.writeInt(stringTable.get(person.getRole().roleName));
+            output.writeInt(person.getAttendanceCount());
+            output.writeInt(person.hasId() ? person.getId().value : NO_MEMBER_ID);
+        }
+
+        output.writeInt(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            writeString(event.getName().fullName, output);
+            writeString(event.getDate().value, output);
+            output.writeInt(stringTable.get(event.getVenue().value));
+            output.writeInt(event.getAttendees().size());
+            for (MemberId attendee : event.getAttendees()) {
+                output.writeInt(attendee.value);
+            }
+        }
+
+        output.writeInt(addressBook.getNextMemberId());
+    }
+
+    /**
+     * Reads the persons and events in {@code input} into a {@code JsonSerializableAddressBook}, so that they are
+     * checked exactly as those read from a json file.
+     */
+    private static JsonSerializableAddressBook read(ByteBuffer input) throws IllegalValueException {
+        try {
+            return readContents(input);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    private static JsonSerializableAddressBook readContents(ByteBuffer input) throws IllegalValueException {
+        int version = readVersion(input);
+        String[] strings = readStringTable(input);
+
+        int personCount = readCount(input);
+        List<JsonAdaptedPerson> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            String name = readString(input);
+            String phone = readString(input);
+            String email = readString(input);
+            String year = readTableString(input, strings);
+            String role = readTableString(input, strings);
+            int attendanceCount = input.getInt();
+            int id = input.getInt();
+            persons.add(new JsonAdaptedPerson(name, phone, email, year, role, attendanceCount,
+                    id == NO_MEMBER_ID ? null : id));
+        }
+
+        int eventCount = readCount(input);
+        List<JsonAdaptedEvent> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            String name = readString(input);
+            String date = readString(input);
+            String venue = readTableString(input, strings);
+            int attendeeCount = readCount(input);
+            List<Integer> attendeeIds = new ArrayList<>(attendeeCount);
+            for (int j = 0; j < attendeeCount; j++) {
+                attendeeIds.add(input.getInt());
+            }
+            events.add(new JsonAdaptedEvent(name, date, venue, attendeeIds, null, null));
+        }
+
+        Integer nextMemberId = version == FORMAT_VERSION ? input.getInt() : null;
+        if (input.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return new JsonSerializableAddressBook(persons, events, nextMemberId);
+    }
+
+    /**
+     * Reads the persons and events in {@code input}, which was written by the app and has not changed since, straight
+     * into the model without checking them. Each year, role and venue in the string table becomes one value object,
+     * shared by every person or event that refers to it.
+     */
+    private static AddressBook readTrusted(ByteBuffer input) throws IllegalValueException {
+        try {
+            return readTrustedContents(input);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    private static AddressBook readTrustedContents(ByteBuffer input) throws IllegalValueException {
+        int version = readVersion(input);
+        String[] strings = readStringTable(input);
+        Year[] years = new Year[strings.length];
+        Role[] roles = new Role[strings.length];
+        Venue[] venues = new Venue[strings.length];
+
+        int personCount = readCount(input);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Name name = Name.ofTrusted(readString(input));
+            Phone phone = Phone.ofTrusted(readString(input));
+            Email email = Email.ofTrusted(readString(input));
+            int yearIndex = readTableIndex(input, strings);
+            if (years[yearIndex] == null) {
+                years[yearIndex] = Year.ofTrusted(strings[yearIndex]);
+            }
+            int roleIndex = readTableIndex(input, strings);
+            if (roles[roleIndex] == null) {
+                roles[roleIndex] = Role.ofTrusted(strings[roleIndex]);
+            }
+            int attendanceCount = input.getInt();
+            MemberId id = new MemberId(input.getInt());
+            persons.add(new Person(name, phone, email, years[yearIndex], roles[roleIndex], attendanceCount, id));
+        }
+
+        int eventCount = readCount(input);
+        List<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            EventName name = EventName.ofTrusted(readString(input));
+            Date date = Date.ofTrusted(readString(input));
+            int venueIndex = readTableIndex(input, strings);
+            if (venues[venueIndex] == null) {
+                venues[venueIndex] = Venue.ofTrusted(strings[venueIndex]);
+            }
+            int attendeeCount = readCount(input);
+            List<MemberId> attendees = new ArrayList<>(attendeeCount);
+            for (int j = 0; j < attendeeCount; j++) {
+                attendees.add(new MemberId(input.getInt()));
+            }
+            events.add(new Event(name, date, venues[venueIndex], attendees));
+        }
+
+        int nextMemberId = version == FORMAT_VERSION ? input.getInt() : 1;
+        if (input.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setTrustedPersons(persons);
+        addressBook.setTrustedEvents(events);
+        addressBook.raiseNextMemberId(nextMemberId);
+        return addressBook;
+    }
+
+    /**
+     * Reads the start of a binary address book file and returns its format version.
+     *
+     * @throws IllegalValueException if the file is not a binary address book or has an unsupported version.
+     */
+    private static int readVersion(ByteBuffer input) throws IllegalValueException {
+        if (input.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        int version = input.getInt();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_NEXT_MEMBER_ID) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    private static String[] readStringTable(ByteBuffer input) throws IllegalValueException {
+        String[] strings = new String[readCount(input)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(input);
+        }
+        return strings;
+    }
+
+    private static void addToTable(String string, Map<String, Integer> stringTable, List<String> strings) {
+        if (!stringTable.containsKey(string)) {
+            stringTable.put(string, strings.size());
+            strings.add(string);
+        }
+    }
+
+    private static void writeString(String string, DataOutputStream output) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) throws IllegalValueException {
+        int length = input.getInt();
+        if (length < 0 || length > input.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readTableString(ByteBuffer input, String[] strings) throws IllegalValueException {
+        return strings[readTableIndex(input, strings)];
+    }
+
+    private static int readTableIndex(ByteBuffer input, String[] strings) throws IllegalValueException {
+        int index = input.getInt();
+        if (index < 0 || index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return index;
+    }
+
+    /**
+     * Reads a count of entries. Each entry takes at least one byte, so a count larger than the rest of the file is
+     * corrupted.
+     */
+    private static int readCount(ByteBuffer input) throws IllegalValueException {
+        int count = input.getInt();
+        if (count < 0 || count > input.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+}
@@ -1,6 +1,14 @@
 package seedu.address.storage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -8,6 +16,7 @@ import seedu.address.model.event.Date;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
 import seedu.address.model.event.Venue;
+import seedu.address.model.person.MemberId;
 
 /**
  * Jackson-friendly version of {@link Event}.
@@ -15,24 +24,39 @@ import seedu.address.model.event.Venue;
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    public static final String MESSAGE_INVALID_ATTENDEE = "Event's attendee entries must not be blank.";
 
     private final String name;
     private final String date;
     private final String venue;
-    private final String attendanceList;
+    private final List<Integer> attendeeIds = new ArrayList<>();
+
+    // Attendance keys of the form "NAME [PHONE]" read from files written before members had ids
+    @JsonIgnore
+    private final List<String> legacyAttendees = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
+     * Files written before members had ids list attendance keys instead of {@code attendeeIds}, either as the
+     * {@code attendees} list or as the older comma-joined {@code attendanceList} string.
      */
     @JsonCreator
     public JsonAdaptedEvent(@JsonProperty("name") String name,
                             @JsonProperty("date") String date,
                             @JsonProperty("venue") String venue,
-                            @JsonProperty("attendanceList") String attendanceList) {
+                            @JsonProperty("attendeeIds") List<Integer> attendeeIds,
+                            @JsonProperty("attendees") List<String> legacyAttendees,
+                            @JsonProperty("attendanceList") String legacyAttendanceList) {
         this.name = name;
         this.date = date;
         this.venue = venue;
-        this.attendanceList = attendanceList;
+        if (attendeeIds != null) {
+            this.attendeeIds.addAll(attendeeIds);
+        } else if (legacyAttendees != null) {
+            this.legacyAttendees.addAll(legacyAttendees);
+        } else if (legacyAttendanceList != null && !legacyAttendanceList.isEmpty()) {
+            this.legacyAttendees.addAll(Arrays.asList(legacyAttendanceList.split(Event.ATTENDANCE_DELIMITER)));
+        }
     }
 
     /**
@@ -42,15 +66,19 @@ class JsonAdaptedEvent {
         this.name = source.getName().fullName;
         this.date = source.getDate().value;
         this.venue = source.getVenue().value;
-        this.attendanceList = source.getAttendanceList();
+        for (MemberId attendee : source.getAttendees()) {
+            this.attendeeIds.add(attendee.value);
+        }
     }
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Legacy attendance keys are translated with {@code legacyAttendanceKeys}; keys without a matching member are
+     * dropped, as they refer to nobody in the address book.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(Map<String, MemberId> legacyAttendanceKeys) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     EventName.class.getSimpleName()));
@@ -78,9 +106,40 @@ class JsonAdaptedEvent {
         }
         final Venue modelVenue = new Venue(venue);
 
-        String modelAttendanceList = (attendanceList != null) ? attendanceList : "";
+        final Set<MemberId> modelAttendees = new LinkedHashSet<>();
+        for (Integer attendeeId : attendeeIds) {
+            if (attendeeId == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_ATTENDEE);
+            }
+            if (!MemberId.isValidMemberId(attendeeId)) {
+                throw new IllegalValueException(MemberId.MESSAGE_CONSTRAINTS);
+            }
+            modelAttendees.add(new MemberId(attendeeId));
+        }
+        for (String legacyAttendee : legacyAttendees) {
+            if (legacyAttendee == null || legacyAttendee.isBlank()) {
+                throw new IllegalValueException(MESSAGE_INVALID_ATTENDEE);
+            }
+            MemberId attendeeId = legacyAttendanceKeys.get(legacyAttendee);
+            if (attendeeId != null) {
+                modelAttendees.add(attendeeId);
+            }
+        }
 
-        return new Event(modelName, modelDate, modelVenue, modelAttendanceList);
+        return new Event(modelName, modelDate, modelVenue, modelAttendees);
+    }
+
+    /**
+     * Converts this adapted event, which must hold the details of a valid {@code Event} as written by
+     * {@link #JsonAdaptedEvent(Event)}, into the model's {@code Event} object without the checks of
+     * {@link #toModelType(Map)}.
+     */
+    public Event toTrustedModelType() {
+        Set<MemberId> modelAttendees = new LinkedHashSet<>();
+        for (Integer attendeeId : attendeeIds) {
+            modelAttendees.add(new MemberId(attendeeId));
+        }
+        return new Event(EventName.ofTrusted(name), Date.ofTrusted(date), Venue.ofTrusted(venue), modelAttendees);
     }
 }
 
@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded in an address book journal.
+ * A record either puts a person or event into the address book, replacing any stored one with the same key, or
+ * removes the person or event with a given key. Persons are keyed by member id and events by date and venue.
+ * An event whose date or venue was edited is put with the key it replaces, so that it keeps its place in the list.
+ * An event whose attendance alone changed is recorded by the attendees added and removed instead.
+ * A record may instead raise the member id to be given to the next person added, so that the ids of persons added
+ * and then deleted are not given again.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is missing details or has no type.";
+
+    /** Kinds of journal records. */
+    enum Type {
+        PUT_PERSON, REMOVE_PERSON, PUT_EVENT, REMOVE_EVENT, CHANGE_ATTENDANCE, NEXT_MEMBER_ID
+    }
+
+    private final Type type;
+    private final JsonAdaptedPerson person;
+    private final Integer id;
+    private final JsonAdaptedEvent event;
+    private final JsonAdaptedEvent replacedEvent;
+    private final List<Integer> addedAttendeeIds;
+    private final List<Integer> removedAttendeeIds;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("id") Integer id,
+                                    @JsonProperty("event") JsonAdaptedEvent event,
+                                    @JsonProperty("replacedEvent") JsonAdaptedEvent replacedEvent,
+                                    @JsonProperty("addedAttendeeIds") List<Integer> addedAttendeeIds,
+                                    @JsonProperty("removedAttendeeIds") List<Integer> removedAttendeeIds) {
+        this.type = type;
+        this.person = person;
+        this.id = id;
+        this.event = event;
+        this.replacedEvent = replacedEvent;
+        this.addedAttendeeIds = addedAttendeeIds;
+        this.removedAttendeeIds = removedAttendeeIds;
+    }
+
+    private JsonAdaptedJournalRecord(Type type, JsonAdaptedPerson person, Integer id, JsonAdaptedEvent event,
+            JsonAdaptedEvent replacedEvent) {
+        this(type, person, id, event, replacedEvent, null, null);
+    }
+
+    /**
+     * Returns a record that puts {@code person}, which must have a member id, into the address book.
+     */
+    public static JsonAdaptedJournalRecord putPerson(Person person) {
+        assert person.hasId();
+        return new JsonAdaptedJournalRecord(Type.PUT_PERSON, new JsonAdaptedPerson(person), null, null, null);
+    }
+
+    /**
+     * Returns a record that removes the person with member id {@code id} from the address book.
+     */
+    public static JsonAdaptedJournalRecord removePerson(MemberId id) {
+        return new JsonAdaptedJournalRecord(Type.REMOVE_PERSON, null, id.value, null, null);
+    }
+
+    /**
+     * Returns a record that raises the member id to be given to the next person added to {@code nextMemberId}.
+     */
+    public static JsonAdaptedJournalRecord nextMemberId(int nextMemberId) {
+        return new JsonAdaptedJournalRecord(Type.NEXT_MEMBER_ID, null, nextMemberId, null, null);
+    }
+
+    /**
+     * Returns a record that puts {@code event} into the address book.
+     */
+    public static JsonAdaptedJournalRecord putEvent(Event event) {
+        return new JsonAdaptedJournalRecord(Type.PUT_EVENT, null, null, new JsonAdaptedEvent(event), null);
+    }
+
+    /**
+     * Returns a record that puts {@code event} into the address book in place of {@code replacedEvent}, which has a
+     * different date or venue. Only the details needed to identify {@code replacedEvent} are recorded.
+     */
+    public static JsonAdaptedJournalRecord putEvent(Event event, Event replacedEvent) {
+        return new JsonAdaptedJournalRecord(Type.PUT_EVENT, null, null, new JsonAdaptedEvent(event),
+                toKeyOnly(replacedEvent));
+    }
+
+    /**
+     * Returns a record that removes the event with the same date and venue as {@code event} from the address book.
+     * Only the details needed to identify the event are recorded.
+     */
+    public static JsonAdaptedJournalRecord removeEvent(Event event) {
+        return new JsonAdaptedJournalRecord(Type.REMOVE_EVENT, null, null, toKeyOnly(event), null);
+    }
+
+    /**
+     * Returns a record that adds the members with ids {@code addedAttendees} to, and removes those with ids
+     * {@code removedAttendees} from, the attendees of the event with the same date and venue as {@code event}.
+     * Only the details needed to identify the event are recorded.
+     */
+    public static JsonAdaptedJournalRecord changeAttendance(Event event, Collection<MemberId> addedAttendees,
+            Collection<MemberId> removedAttendees) {
+        return new JsonAdaptedJournalRecord(Type.CHANGE_ATTENDANCE, null, null, toKeyOnly(event), null,
+                toIdValues(addedAttendees), toIdValues(removedAttendees));
+    }
+
+    private static List<Integer> toIdValues(Collection<MemberId> ids) {
+        List<Integer> values = new ArrayList<>(ids.size());
+        for (MemberId id : ids) {
+            values.add(id.value);
+        }
+        return values;
+    }
+
+    private static JsonAdaptedEvent toKeyOnly(Event event) {
+        return new JsonAdaptedEvent(event.getName().fullName, event.getDate().value, event.getVenue().value,
+                List.of(), null, null);
+    }
+
+    /**
+     * Returns the kind of this record.
+     *
+     * @throws IllegalValueException if the record has no type or lacks the details its type needs.
+     */
+    public Type getType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+
+        switch (type) {
+        case PUT_PERSON:
+            return requireDetail(person);
+        case REMOVE_PERSON:
+        case NEXT_MEMBER_ID:
+            return requireDetail(id);
+        default:
+            return requireDetail(event);
+        }
+    }
+
+    private Type requireDetail(Object detail) throws IllegalValueException {
+        if (detail == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        return type;
+    }
+
+    /**
+     * Converts the person put by this record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelPerson() throws IllegalValueException {
+        Person modelPerson = person.toModelType();
+        if (!modelPerson.hasId()) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    MemberId.class.getSimpleName()));
+        }
+        return modelPerson;
+    }
+
+    /**
+     * Converts the id of the person removed by this record, or the next member id raised by it, into the model's
+     * {@code MemberId} object.
+     *
+     * @throws IllegalValueException if the id is not a valid member id.
+     */
+    public MemberId toModelId() throws IllegalValueException {
+        if (!MemberId.isValidMemberId(id)) {
+            throw new IllegalValueException(MemberId.MESSAGE_CONSTRAINTS);
+        }
+        return new MemberId(id);
+    }
+
+    /**
+     * Converts the event put or removed by this record into the model's {@code Event} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Event toModelEvent() throws IllegalValueException {
+        // Journals are only written with member ids, so there are no legacy attendance keys to translate
+        return event.toModelType(Map.of());
+    }
+
+    /**
+     * Converts the event that the event put by this record replaces, if any, into the model's {@code Event} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Optional<Event> toReplacedModelEvent() throws IllegalValueException {
+        return replacedEvent == null ? Optional.empty() : Optional.of(replacedEvent.toModelType(Map.of()));
+    }
+
+    /**
+     * Converts the ids of the attendees added by this record into the model's {@code MemberId} objects.
+     *
+     * @throws IllegalValueException if an id is not a valid member id.
+     */
+    public List<MemberId> toAddedAttendeeIds() throws IllegalValueException {
+        return toModelIds(addedAttendeeIds);
+    }
+
+    /**
+     * Converts the ids of the attendees removed by this record into the model's {@code MemberId} objects.
+     *
+     * @throws IllegalValueException if an id is not a valid member id.
+     */
+    public List<MemberId> toRemovedAttendeeIds() throws IllegalValueException {
+        return toModelIds(removedAttendeeIds);
+    }
+
+    private static List<MemberId> toModelIds(List<Integer> values) throws IllegalValueException {
+        List<MemberId> ids = new ArrayList<>();
+        if (values == null) {
+            return ids;
+        }
+        for (Integer value : values) {
+            if (value == null || !MemberId.isValidMemberId(value)) {
+                throw new IllegalValueException(MemberId.MESSAGE_CONSTRAINTS);
+            }
+            ids.add(new MemberId(value));
+        }
+        return ids;
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -26,20 +27,32 @@ class JsonAdaptedPerson {
     private final String year;
     private final String role;
     private final Integer attendanceCount;
+    private final Integer id;
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no member id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String year, String role,
+            Integer attendanceCount) {
+        this(name, phone, email, year, role, attendanceCount, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * {@code id} is absent in files written before members had ids.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("year") String year,
-            @JsonProperty("role") String role, @JsonProperty("attendanceCount") Integer attendanceCount) {
+            @JsonProperty("role") String role, @JsonProperty("attendanceCount") Integer attendanceCount,
+            @JsonProperty("id") Integer id) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.year = year;
         this.role = role;
         this.attendanceCount = attendanceCount;
+        this.id = id;
     }
 
     /**
@@ -52,10 +65,12 @@ class JsonAdaptedPerson {
         year = source.getYear().value;
         role = source.getRole().roleName;
         attendanceCount = source.getAttendanceCount();
+        id = source.hasId() ? source.getId().value : null;
     }
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The person has no member id if none was stored; the address book assigns one when it is added.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
@@ -128,7 +143,22 @@ class JsonAdaptedPerson {
 
         int modelAttendanceCount = (attendanceCount != null) ? attendanceCount : 0;
 
-        return new Person(modelName, modelPhone, modelEmail, modelYear, modelRole, modelAttendanceCount);
+        if (id != null && !MemberId.isValidMemberId(id)) {
+            throw new IllegalValueException(MemberId.MESSAGE_CONSTRAINTS);
+        }
+        final MemberId modelId = (id != null) ? new MemberId(id) : null;
+
+        return new Person(modelName, modelPhone, modelEmail, modelYear, modelRole, modelAttendanceCount, modelId);
+    }
+
+    /**
+     * Converts this adapted person, which must hold the details of a valid {@code Person} as written by
+     * {@link #JsonAdaptedPerson(Person)}, into the model's {@code Person} object without the checks of
+     * {@link #toModelType()}.
+     */
+    public Person toTrustedModelType() {
+        return new Person(Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email), Year.ofTrusted(year),
+                Role.ofTrusted(role), attendanceCount, new MemberId(id));
     }
 
 }
@@ -3,9 +3,14 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -16,15 +21,30 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Files written by {@link BinaryAddressBookStorage}, and the journals written by {@link JsonJournalAddressBookStorage},
+ * are also read, so the address book can be switched back to a plain json file. The next save then discards the
+ * journals. While there is no json file, the binary file that replaced it is read instead.
+ * Each save also writes an {@link AddressBookChecksum}, so that a file that has not changed since is loaded without
+ * checking its contents again.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes its files without line breaks and indentation if
+     * {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,17 +65,43 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+        if (JsonJournalAddressBookStorage.hasJournal(filePath)) {
+            return new JsonJournalAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        return readFile(filePath);
+    }
+
+    /**
+     * Reads the address book file at {@code filePath} in either format, ignoring any journal next to it.
+     *
+     * @throws DataLoadingException if the file could not be read or its data violates any constraints.
+     */
+    static Optional<ReadOnlyAddressBook> readFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            // The address book may have been switched to the binary format, which replaces the json file
+            Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(filePath);
+            return !binaryFilePath.equals(filePath) && Files.exists(binaryFilePath)
+                    ? readFile(binaryFilePath)
+                    : Optional.empty();
+        }
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return Optional.of(BinaryAddressBookStorage.readBinaryFile(filePath));
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ByteBuffer content = FileUtil.readToBuffer(filePath);
+            boolean isUnchanged = AddressBookChecksum.isUnchanged(filePath, content);
+            try (JsonParser parser = JsonUtil.createParser(content)) {
+                return Optional.of(isUnchanged
+                        ? JsonSerializableAddressBook.readTrusted(parser)
+                        : JsonSerializableAddressBook.read(parser));
+            }
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         }
     }
 
@@ -66,6 +112,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Any journal of an earlier file at {@code filePath} is discarded, as it does not apply to the new file.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +120,12 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        JsonJournalAddressBookStorage.deleteJournals(filePath);
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        Checksum checksum = AddressBookChecksum.newChecksum();
+        JsonUtil.writeJsonFile(filePath, isCompact,
+                generator -> JsonSerializableAddressBook.write(addressBook, generator), checksum);
+        AddressBookChecksum.save(filePath, checksum);
     }
 
 }
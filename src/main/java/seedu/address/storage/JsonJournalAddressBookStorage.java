@@ -0,0 +1,632 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ChangeLog.Change;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus a journal of the changes made since.
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. Each save appends a line
+ * for every person or event changed since the previous save to a journal file next to the snapshot, so the cost of
+ * a save grows with the size of the change rather than the size of the address book. Once the journal passes a size
+ * threshold, it is compacted into a fresh snapshot in the background.
+ *
+ * The changes are taken from the {@link ChangeLog} of the address book saved, starting from the position it was
+ * last saved at. Only the first save after a read, when the storage knows the files but not how the address book
+ * saved relates to them, compares the whole address book with what was read.
+ *
+ * Journal records put or remove a person or event by key, or add or remove attendees of an event, so replaying
+ * records that a snapshot already includes leaves it unchanged. This keeps the files readable however a compaction
+ * is interrupted. Replaying the journal keeps persons and events in the order the app listed them, so that indexes
+ * stay the same after a restart.
+ */
+public class JsonJournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+
+    /** Size in bytes past which a journal is compacted into the snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    private static final String SNAPSHOT_TEMP_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    // Position in the change log of the address book last saved to filePath; null when the files may not match it
+    private ChangeLog.Position savedPosition;
+    // Persons and events as last read from filePath, until the next save; null when the files may not match them
+    private Map<MemberId, Person> savedPersons;
+    private Map<String, Event> savedEvents;
+    private int savedNextMemberId;
+
+    public JsonJournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JsonJournalAddressBookStorage} that compacts its journal once it reaches
+     * {@code compactionThreshold} bytes.
+     */
+    public JsonJournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        this.filePath = requireNonNull(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the journal of changes made since the snapshot at {@code filePath} was written.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns the journal being compacted into the snapshot at {@code filePath}, if any.
+     * Its records come before those in {@link #getJournalFilePath(Path)}.
+     */
+    public static Path getCompactingJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns true if there is a journal next to the snapshot at {@code filePath}.
+     */
+    static boolean hasJournal(Path filePath) {
+        return Files.exists(getJournalFilePath(filePath)) || Files.exists(getCompactingJournalFilePath(filePath));
+    }
+
+    /**
+     * Deletes the journals next to the snapshot at {@code filePath}, which is about to be replaced by a snapshot that
+     * they do not lead up to.
+     */
+    static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(getCompactingJournalFilePath(filePath));
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Reads the address book, and remembers it as the starting point for the changes journaled by the next save.
+     * A record left incomplete at the end of the journal by an interrupted save is ignored and removed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        forgetSavedState();
+
+        Optional<ReadOnlyAddressBook> addressBook = read(filePath, true);
+        ReadOnlyAddressBook savedAddressBook = addressBook.orElseGet(AddressBook::new);
+        if (hasMemberIds(savedAddressBook)) {
+            savedPersons = personsById(savedAddressBook);
+            savedEvents = eventsByKey(savedAddressBook);
+            savedNextMemberId = savedAddressBook.getNextMemberId();
+        }
+        return addressBook;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but leaves the files unchanged.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return read(filePath, false);
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since it was last read or saved to the journal.
+     * The whole address book is written as a fresh snapshot instead if it is not known what the files hold, or if
+     * the changes cannot be journaled.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Optional<ChangeLog.Position> position = addressBook.getChangePosition();
+        Optional<List<Change>> changes = savedPosition == null || position.isEmpty()
+                ? Optional.empty()
+                : ChangeLog.getChangesBetween(savedPosition, position.get());
+        Optional<List<JsonAdaptedJournalRecord>> records;
+        if (changes.isPresent()) {
+            records = Optional.of(toRecords(changes.get()));
+        } else if (savedPersons != null && hasMemberIds(addressBook)) {
+            records = compareWithRead(addressBook);
+        } else {
+            records = Optional.empty();
+        }
+        if (records.isEmpty()) {
+            saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (addressBook.getNextMemberId() > savedNextMemberId) {
+            records.get().add(JsonAdaptedJournalRecord.nextMemberId(addressBook.getNextMemberId()));
+        }
+        if (!records.get().isEmpty()) {
+            appendToJournal(records.get());
+        }
+        rememberSavedState(addressBook);
+        compactIfNeeded(addressBook);
+    }
+
+    /**
+     * Returns records of the changes in {@code changes}. An event whose attendees alone changed is recorded by the
+     * attendees added and removed, and an event that replaced one with another date or venue as replacing it.
+     */
+    private static List<JsonAdaptedJournalRecord> toRecords(List<Change> changes) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (Change change : changes) {
+            switch (change.getKind()) {
+            case PUT_PERSON:
+                records.add(JsonAdaptedJournalRecord.putPerson(change.getPerson()));
+                break;
+            case REMOVE_PERSON:
+                records.add(JsonAdaptedJournalRecord.removePerson(change.getPerson().getId()));
+                break;
+            case ADD_EVENT:
+                records.add(JsonAdaptedJournalRecord.putEvent(change.getEvent()));
+                break;
+            case REPLACE_EVENT:
+                records.add(toReplacementRecord(change.getReplacedEvent(), change.getEvent()));
+                break;
+            default:
+                assert change.getKind() == Change.Kind.REMOVE_EVENT;
+                records.add(JsonAdaptedJournalRecord.removeEvent(change.getEvent()));
+                break;
+            }
+        }
+        return records;
+    }
+
+    private static JsonAdaptedJournalRecord toReplacementRecord(Event replacedEvent, Event event) {
+        if (!replacedEvent.getIdentityKey().equals(event.getIdentityKey())) {
+            return JsonAdaptedJournalRecord.putEvent(event, replacedEvent);
+        }
+        boolean hasSameDetails = replacedEvent.getName().fullName.equals(event.getName().fullName)
+                && replacedEvent.getDate().value.equals(event.getDate().value)
+                && replacedEvent.getVenue().value.equals(event.getVenue().value);
+        if (!hasSameDetails) {
+            return JsonAdaptedJournalRecord.putEvent(event);
+        }
+
+        Set<MemberId> added = new LinkedHashSet<>(event.getAttendees());
+        added.removeAll(replacedEvent.getAttendees());
+        Set<MemberId> removed = new LinkedHashSet<>(replacedEvent.getAttendees());
+        removed.removeAll(event.getAttendees());
+        // Replaying the change appends the added attendees, so it only records attendees kept in that order
+        Set<MemberId> replayed = new LinkedHashSet<>(replacedEvent.getAttendees());
+        replayed.removeAll(removed);
+        replayed.addAll(added);
+        if (!List.copyOf(replayed).equals(List.copyOf(event.getAttendees()))) {
+            return JsonAdaptedJournalRecord.putEvent(event);
+        }
+        return JsonAdaptedJournalRecord.changeAttendance(event, added, removed);
+    }
+
+    /**
+     * Returns records of the changes from the address book last read to {@code addressBook}, found by comparing
+     * the two, or an empty {@code Optional} if the events were reordered, which the journal cannot record.
+     */
+    private Optional<List<JsonAdaptedJournalRecord>> compareWithRead(ReadOnlyAddressBook addressBook) {
+        Map<MemberId, Person> persons = personsById(addressBook);
+        Map<String, Event> events = eventsByKey(addressBook);
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        persons.forEach((id, person) -> {
+            // Persons are immutable, so an unchanged person is the very instance that was saved
+            if (savedPersons.get(id) != person) {
+                records.add(JsonAdaptedJournalRecord.putPerson(person));
+            }
+        });
+        savedPersons.keySet().stream()
+                .filter(id -> !persons.containsKey(id))
+                .forEach(id -> records.add(JsonAdaptedJournalRecord.removePerson(id)));
+        return addEventRecords(events, records) ? Optional.of(records) : Optional.empty();
+    }
+
+    /**
+     * Adds records of the changes from the saved events to {@code events} to {@code records}. An event that takes
+     * the place of a removed one, as an event whose date or venue is edited does, is recorded as replacing it.
+     *
+     * @return false if the events that were kept are no longer in their saved order, or an event was added anywhere
+     *     but in place of a removed event or after the saved events, so that the records would replay to a
+     *     different order.
+     */
+    private boolean addEventRecords(Map<String, Event> events, List<JsonAdaptedJournalRecord> records) {
+        List<Event> saved = new ArrayList<>(savedEvents.values());
+        int savedIndex = 0;
+        for (Map.Entry<String, Event> entry : events.entrySet()) {
+            Event event = entry.getValue();
+            if (!savedEvents.containsKey(entry.getKey())) {
+                if (savedIndex < saved.size() && !events.containsKey(saved.get(savedIndex).getIdentityKey())) {
+                    records.add(JsonAdaptedJournalRecord.putEvent(event, saved.get(savedIndex++)));
+                } else if (savedIndex < saved.size()) {
+                    return false;
+                } else {
+                    records.add(JsonAdaptedJournalRecord.putEvent(event));
+                }
+                continue;
+            }
+
+            // Saved events before this one that are gone were removed
+            while (savedIndex < saved.size() && !saved.get(savedIndex).getIdentityKey().equals(entry.getKey())) {
+                Event savedEvent = saved.get(savedIndex++);
+                if (events.containsKey(savedEvent.getIdentityKey())) {
+                    return false;
+                }
+                records.add(JsonAdaptedJournalRecord.removeEvent(savedEvent));
+            }
+            savedIndex++;
+            if (savedEvents.get(entry.getKey()) != event) {
+                records.add(JsonAdaptedJournalRecord.putEvent(event));
+            }
+        }
+        // Every saved event that was kept has been passed, so the rest were removed
+        for (Event savedEvent : saved.subList(savedIndex, saved.size())) {
+            records.add(JsonAdaptedJournalRecord.removeEvent(savedEvent));
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code addressBook} as a fresh snapshot at {@code filePath} and discards the journals there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            forgetSavedState();
+        }
+
+        awaitCompaction();
+        // The journals do not lead up to addressBook, so they must not be replayed over its snapshot
+        deleteJournals(filePath);
+        writeSnapshot(addressBook, filePath);
+
+        if (isOwnFile) {
+            rememberSavedState(addressBook);
+        }
+    }
+
+    /**
+     * Remembers {@code addressBook} as what the files now hold. Its change log position is kept if it has one, and
+     * otherwise its persons and events are, to be compared with the next save.
+     */
+    private void rememberSavedState(ReadOnlyAddressBook addressBook) {
+        savedPosition = addressBook.getChangePosition().orElse(null);
+        savedPersons = null;
+        savedEvents = null;
+        if (savedPosition == null && hasMemberIds(addressBook)) {
+            savedPersons = personsById(addressBook);
+            savedEvents = eventsByKey(addressBook);
+        }
+        savedNextMemberId = addressBook.getNextMemberId();
+    }
+
+    private void forgetSavedState() {
+        savedPosition = null;
+        savedPersons = null;
+        savedEvents = null;
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the journals next to it.
+     * If {@code repairsJournal} is true, an incomplete record at the end of the journal is removed from the file.
+     */
+    private Optional<ReadOnlyAddressBook> read(Path filePath, boolean repairsJournal) throws DataLoadingException {
+        awaitCompaction();
+
+        Optional<ReadOnlyAddressBook> snapshot = JsonAddressBookStorage.readFile(filePath);
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        boolean hasCompactingJournal = readJournal(getCompactingJournalFilePath(filePath), records, repairsJournal);
+        boolean hasJournal = readJournal(getJournalFilePath(filePath), records, repairsJournal);
+        if (records.isEmpty()) {
+            return snapshot.isPresent() || !(hasCompactingJournal || hasJournal)
+                    ? snapshot
+                    : Optional.of(new AddressBook());
+        }
+
+        Map<MemberId, Person> persons = new LinkedHashMap<>();
+        // Each event is kept in a slot, which an event put in place of another takes over
+        Map<String, Object> eventSlots = new HashMap<>();
+        Map<Object, Event> events = new LinkedHashMap<>();
+        snapshot.ifPresent(addressBook -> {
+            persons.putAll(personsById(addressBook));
+            for (Event event : addressBook.getEventList()) {
+                Object slot = new Object();
+                eventSlots.put(event.getIdentityKey(), slot);
+                events.put(slot, event);
+            }
+        });
+
+        int nextMemberId = snapshot.map(ReadOnlyAddressBook::getNextMemberId).orElse(1);
+
+        try {
+            for (JsonAdaptedJournalRecord record : records) {
+                if (record.getType() == JsonAdaptedJournalRecord.Type.NEXT_MEMBER_ID) {
+                    nextMemberId = Math.max(nextMemberId, record.toModelId().value);
+                } else {
+                    replay(record, persons, eventSlots, events);
+                }
+            }
+            AddressBook addressBook = toAddressBook(persons.values(), events.values());
+            addressBook.raiseNextMemberId(nextMemberId);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Adds the records in {@code journal} to {@code records}. Only records ended by a line break are complete; an
+     * incomplete record at the end of the journal is ignored, and removed from the file if {@code repairsJournal}.
+     *
+     * @return true if the journal exists.
+     */
+    private static boolean readJournal(Path journal, List<JsonAdaptedJournalRecord> records,
+            boolean repairsJournal) throws DataLoadingException {
+        if (!Files.exists(journal)) {
+            return false;
+        }
+
+        try {
+            String content = FileUtil.readFromFile(journal);
+            int lineStart = 0;
+            int lineEnd = content.indexOf('\n');
+            while (lineEnd != -1) {
+                String line = content.substring(lineStart, lineEnd);
+                if (!line.isBlank()) {
+                    records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+                }
+                lineStart = lineEnd + 1;
+                lineEnd = content.indexOf('\n', lineStart);
+            }
+
+            if (lineStart < content.length()) {
+                logger.warning("Ignoring an incomplete record at the end of " + journal);
+                if (repairsJournal) {
+                    long completeLength = content.substring(0, lineStart).getBytes(StandardCharsets.UTF_8).length;
+                    try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                        channel.truncate(completeLength);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journal + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Applies {@code record} to {@code persons} and to the events in {@code events}, whose slots are given by
+     * {@code eventSlots}. An event is put in the slot of the event with its key if there is one, or else in the slot
+     * of the event it replaces, so that replaying a record the events already include changes nothing.
+     */
+    private static void replay(JsonAdaptedJournalRecord record, Map<MemberId, Person> persons,
+            Map<String, Object> eventSlots, Map<Object, Event> events) throws IllegalValueException {
+        switch (record.getType()) {
+        case PUT_PERSON:
+            Person person = record.toModelPerson();
+            persons.put(person.getId(), person);
+            break;
+        case REMOVE_PERSON:
+            persons.remove(record.toModelId());
+            break;
+        case CHANGE_ATTENDANCE:
+            Object attendedSlot = eventSlots.get(record.toModelEvent().getIdentityKey());
+            Event attendedEvent = events.get(attendedSlot);
+            // The event may have been removed by a later record that the snapshot already includes
+            if (attendedEvent != null) {
+                Set<MemberId> attendees = new LinkedHashSet<>(attendedEvent.getAttendees());
+                attendees.removeAll(record.toRemovedAttendeeIds());
+                attendees.addAll(record.toAddedAttendeeIds());
+                events.put(attendedSlot, attendedEvent.withAttendees(attendees));
+            }
+            break;
+        case PUT_EVENT:
+            Event event = record.toModelEvent();
+            Object slot = eventSlots.get(event.getIdentityKey());
+            if (slot == null) {
+                Optional<Event> replacedEvent = record.toReplacedModelEvent();
+                if (replacedEvent.isPresent()) {
+                    slot = eventSlots.remove(replacedEvent.get().getIdentityKey());
+                }
+                if (slot == null) {
+                    slot = new Object();
+                }
+                eventSlots.put(event.getIdentityKey(), slot);
+            }
+            events.put(slot, event);
+            break;
+        default:
+            Object removedSlot = eventSlots.remove(record.toModelEvent().getIdentityKey());
+            events.remove(removedSlot);
+            break;
+        }
+    }
+
+    /**
+     * Returns an address book of {@code persons} and {@code events}, checked as a stored address book would be.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook toAddressBook(Collection<Person> persons, Collection<Event> events)
+            throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(new ArrayList<>(persons));
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        for (Event event : events) {
+            for (MemberId attendee : event.getAttendees()) {
+                if (addressBook.getPersonById(attendee).isEmpty()) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_UNKNOWN_ATTENDEE);
+                }
+            }
+        }
+        addressBook.setEvents(new ArrayList<>(events));
+        return addressBook;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toJsonLine(record)).append('\n');
+        }
+
+        Path journal = getJournalFilePath(filePath);
+        try {
+            FileUtil.createParentDirsOfFile(journal);
+            Files.writeString(journal, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // Part of the records may have been written, so the next save rewrites the snapshot instead
+            forgetSavedState();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts compacting the journal into a snapshot of {@code addressBook} if the journal has grown past the
+     * threshold and no compaction is running. Problems are only logged, as the journal stays usable regardless.
+     */
+    private void compactIfNeeded(ReadOnlyAddressBook addressBook) {
+        Path journal = getJournalFilePath(filePath);
+        Path compactingJournal = getCompactingJournalFilePath(filePath);
+        try {
+            if (!compaction.isDone() || !Files.exists(journal) || Files.size(journal) < compactionThreshold) {
+                return;
+            }
+
+            if (Files.exists(compactingJournal)) {
+                // An earlier compaction did not finish, so its records are kept ahead of the newer ones
+                Files.write(compactingJournal, Files.readAllBytes(journal), StandardOpenOption.APPEND);
+                Files.delete(journal);
+            } else {
+                Files.move(journal, compactingJournal);
+            }
+        } catch (IOException e) {
+            logger.warning("Could not start compacting " + journal + ": " + StringUtil.getDetails(e));
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = new AddressBook(addressBook);
+        compaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(snapshot, filePath);
+                Files.delete(compactingJournal);
+                logger.fine("Compacted journal into " + filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal into " + filePath + ": " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Blocks until the running compaction, if any, has finished.
+     */
+    private void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} in the format of {@link JsonAddressBookStorage}, replacing the
+     * file in one step so that it is never left half written.
+     */
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_TEMP_SUFFIX);
+        new JsonAddressBookStorage(tempFilePath).saveAddressBook(addressBook);
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        AddressBookChecksum.move(tempFilePath, filePath);
+    }
+
+    private static boolean hasMemberIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().allMatch(Person::hasId);
+    }
+
+    private static Map<MemberId, Person> personsById(ReadOnlyAddressBook addressBook) {
+        Map<MemberId, Person> persons = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            persons.put(person.getId(), person);
+        }
+        return persons;
+    }
+
+    private static Map<String, Event> eventsByKey(ReadOnlyAddressBook addressBook) {
+        Map<String, Event> events = new LinkedHashMap<>();
+        for (Event event : addressBook.getEventList()) {
+            events.put(event.getIdentityKey(), event);
+        }
+        return events;
+    }
+}
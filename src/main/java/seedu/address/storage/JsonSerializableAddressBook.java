@@ -1,18 +1,34 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -22,22 +38,46 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_MEMBER_ID = "Persons list contains duplicate member id(s).";
+    public static final String MESSAGE_UNKNOWN_ATTENDEE = "Events list refers to member id(s) that do not exist.";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK =
+            "Expected an object with lists of persons and events.";
+    public static final String MESSAGE_AT_LOCATION_FORMAT = "Line %d, column %d: %s";
+
+    /** Format of the attendance keys that identified members in files written before members had ids. */
+    private static final String LEGACY_ATTENDANCE_KEY_FORMAT = "%s [%s]";
+
+    /** Number of persons or events read from a file before they are converted together. */
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+    /** Lists shorter than this are converted on the calling thread, as splitting them up costs more than it saves. */
+    private static final int PARALLEL_CONVERSION_THRESHOLD = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final Integer nextMemberId;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and events.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, List<JsonAdaptedEvent> events) {
+        this(persons, events, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, events and next member id.
+     * Files written before the next member id was stored have none, and continue from the highest id in use.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                       @JsonProperty("events") List<JsonAdaptedEvent> events) {
+                                       @JsonProperty("events") List<JsonAdaptedEvent> events,
+                                       @JsonProperty("nextMemberId") Integer nextMemberId) {
         if (persons != null) {
             this.persons.addAll(persons);
         }
         if (events != null) {
             this.events.addAll(events);
         }
+        this.nextMemberId = nextMemberId;
     }
 
     /**
@@ -48,31 +88,414 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        nextMemberId = source.getNextMemberId();
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the JSON format of this class. Persons and events are converted
+     * one at a time as they are written, so the converted address book is never held in memory as a whole.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("events");
+        for (Event event : source.getEventList()) {
+            generator.writeObject(new JsonAdaptedEvent(event));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("nextMemberId", source.getNextMemberId());
+        generator.writeEndObject();
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons stored without a member id are given one, and legacy attendance keys in events are mapped to the ids
+     * of the members they name.
+     * Persons and events are converted in parallel, then checked for duplicates in order. If several are invalid,
+     * the first in the list is reported.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>();
+        SeenPersons seenPersons = new SeenPersons();
+        for (Person person : convertAll(persons, null, JsonAdaptedPerson::toModelType)) {
+            addPerson(person, modelPersons, seenPersons);
+        }
+
+        AddressBook addressBook = toAddressBook(modelPersons);
+        Map<String, MemberId> legacyAttendanceKeys = getLegacyAttendanceKeys(addressBook);
+        for (Event event : convertEvents(events, null, legacyAttendanceKeys)) {
+            addEvent(event, addressBook);
+        }
+        if (nextMemberId != null) {
+            addressBook.raiseNextMemberId(toModelNextMemberId(nextMemberId));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts this address book, which must hold the persons and events of a valid {@code ReadOnlyAddressBook} as
+     * written by {@link #JsonSerializableAddressBook(ReadOnlyAddressBook)}, into the model's {@code AddressBook}
+     * object without the checks of {@link #toModelType()}.
+     */
+    public AddressBook toTrustedModelType() {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            modelPersons.add(jsonAdaptedPerson.toTrustedModelType());
+        }
+        List<Event> modelEvents = new ArrayList<>(events.size());
+        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
+            modelEvents.add(jsonAdaptedEvent.toTrustedModelType());
+        }
+        return toTrustedAddressBook(modelPersons, modelEvents, nextMemberId);
+    }
+
+    /**
+     * Reads an address book in the JSON format of this class from {@code parser}, converting each person and event
+     * in batches as it is parsed rather than binding the whole file first. The result is the same as that of
+     * {@link #toModelType()}. Constraint violations in a person or event, including duplicates, are reported with
+     * the line and column at which it ends. If several are invalid, the first in the file is reported, except that
+     * events read before the persons can only be checked for attendees that do not exist once all persons are read.
+     *
+     * @throws IOException if the content is not valid JSON or does not have the structure of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        SeenPersons seenPersons = new SeenPersons();
+        // Events can only be checked against the persons, so any that come first wait for the persons to be read
+        List<JsonAdaptedEvent> earlyEvents = new ArrayList<>();
+        List<JsonLocation> earlyLocations = new ArrayList<>();
+        List<JsonAdaptedPerson> pendingPersons = new ArrayList<>();
+        List<JsonAdaptedEvent> pendingEvents = new ArrayList<>();
+        List<JsonLocation> pendingLocations = new ArrayList<>();
+        AddressBook addressBook = null;
+        Map<String, MemberId> legacyAttendanceKeys = null;
+        int nextMemberId = 1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            if (fieldName.equals("persons") && addressBook == null) {
+                expectArray(parser, value);
+                checkEarlyEvents(earlyEvents, earlyLocations);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    pendingPersons.add(readEntry(parser, JsonAdaptedPerson.class));
+                    pendingLocations.add(parser.getTokenLocation());
+                    if (pendingPersons.size() == CONVERSION_BATCH_SIZE) {
+                        addPendingPersons(pendingPersons, pendingLocations, modelPersons, seenPersons);
+                    }
+                }
+                addPendingPersons(pendingPersons, pendingLocations, modelPersons, seenPersons);
+                addressBook = toAddressBook(modelPersons);
+                legacyAttendanceKeys = getLegacyAttendanceKeys(addressBook);
+            } else if (fieldName.equals("events")) {
+                expectArray(parser, value);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedEvent jsonAdaptedEvent = readEntry(parser, JsonAdaptedEvent.class);
+                    if (addressBook == null) {
+                        earlyEvents.add(jsonAdaptedEvent);
+                        earlyLocations.add(parser.getTokenLocation());
+                        continue;
+                    }
+                    pendingEvents.add(jsonAdaptedEvent);
+                    pendingLocations.add(parser.getTokenLocation());
+                    if (pendingEvents.size() == CONVERSION_BATCH_SIZE) {
+                        addPendingEvents(pendingEvents, pendingLocations, legacyAttendanceKeys, addressBook);
+                    }
+                }
+                addPendingEvents(pendingEvents, pendingLocations, legacyAttendanceKeys, addressBook);
+            } else if (fieldName.equals("nextMemberId")) {
+                try {
+                    nextMemberId = toModelNextMemberId(readNextMemberId(parser, value));
+                } catch (IllegalValueException ive) {
+                    throw withLocation(parser.getTokenLocation(), ive);
+                }
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
         }
 
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        if (addressBook == null) {
+            addressBook = toAddressBook(modelPersons);
+            legacyAttendanceKeys = getLegacyAttendanceKeys(addressBook);
+        }
+        addPendingEvents(earlyEvents, earlyLocations, legacyAttendanceKeys, addressBook);
+        addressBook.raiseNextMemberId(nextMemberId);
+        return addressBook;
+    }
+
+    /**
+     * Checks the events in {@code earlyEvents}, which were read at {@code locations} before any person, for the
+     * violations that do not depend on the persons, so that they are reported before those of any person after them.
+     * Legacy attendance keys cannot be translated yet, but they do not affect whether an event is valid or distinct.
+     *
+     * @throws IllegalValueException for the first event that violates any data constraints or is a duplicate.
+     */
+    private static void checkEarlyEvents(List<JsonAdaptedEvent> earlyEvents, List<JsonLocation> locations)
+            throws IllegalValueException {
+        List<Event> converted = convertEvents(earlyEvents, locations, Map.of());
+        Set<String> identityKeys = new HashSet<>();
+        for (int i = 0; i < converted.size(); i++) {
+            if (!identityKeys.add(converted.get(i).getIdentityKey())) {
+                throw withLocation(locations.get(i), new IllegalValueException(MESSAGE_DUPLICATE_EVENT));
+            }
+        }
+    }
+
+    /**
+     * Converts and adds the persons in {@code pending}, which were read at {@code locations}, then clears both.
+     */
+    private static void addPendingPersons(List<JsonAdaptedPerson> pending, List<JsonLocation> locations,
+            List<Person> modelPersons, SeenPersons seenPersons) throws IllegalValueException {
+        List<Person> converted = convertAll(pending, locations, JsonAdaptedPerson::toModelType);
+        for (int i = 0; i < converted.size(); i++) {
+            try {
+                addPerson(converted.get(i), modelPersons, seenPersons);
+            } catch (IllegalValueException ive) {
+                throw withLocation(locations.get(i), ive);
+            }
+        }
+        pending.clear();
+        locations.clear();
+    }
+
+    /**
+     * Converts and adds the events in {@code pending}, which were read at {@code locations}, then clears both.
+     */
+    private static void addPendingEvents(List<JsonAdaptedEvent> pending, List<JsonLocation> locations,
+            Map<String, MemberId> legacyAttendanceKeys, AddressBook addressBook) throws IllegalValueException {
+        List<Event> converted = convertEvents(pending, locations, legacyAttendanceKeys);
+        for (int i = 0; i < converted.size(); i++) {
+            try {
+                addEvent(converted.get(i), addressBook);
+            } catch (IllegalValueException ive) {
+                throw withLocation(locations.get(i), ive);
             }
-            addressBook.addEvent(event);
+        }
+        pending.clear();
+        locations.clear();
+    }
+
+    private static List<Event> convertEvents(List<JsonAdaptedEvent> events, List<JsonLocation> locations,
+            Map<String, MemberId> legacyAttendanceKeys) throws IllegalValueException {
+        return convertAll(events, locations, event -> event.toModelType(legacyAttendanceKeys));
+    }
+
+    /**
+     * Converts each of {@code entries} into its model object with {@code converter}, in parallel for long lists.
+     * The conversions only read the entries, so they can run on any thread.
+     *
+     * @param locations where each entry was read, to be reported with any constraint violation, or null if unknown.
+     * @throws IllegalValueException for the first entry in the list that violates any data constraints, whichever
+     *     conversion fails first.
+     */
+    private static <T, R> List<R> convertAll(List<T> entries, List<JsonLocation> locations,
+            Converter<T, R> converter) throws IllegalValueException {
+        List<R> converted = new ArrayList<>(Collections.nCopies(entries.size(), null));
+        IllegalValueException[] failures = new IllegalValueException[entries.size()];
+        IntStream indexes = IntStream.range(0, entries.size());
+        if (entries.size() >= PARALLEL_CONVERSION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                converted.set(i, converter.convert(entries.get(i)));
+            } catch (IllegalValueException ive) {
+                failures[i] = ive;
+            }
+        });
+
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                throw locations == null ? failures[i] : withLocation(locations.get(i), failures[i]);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Reads an address book that was written by {@link #write(ReadOnlyAddressBook, JsonGenerator)} and has not
+     * changed since, so its persons and events are known to be valid and distinct. They are converted without the
+     * checks of {@link #read(JsonParser)}.
+     *
+     * @throws IOException if the content is not valid JSON or does not have the structure of this class.
+     */
+    public static AddressBook readTrusted(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        List<Event> modelEvents = new ArrayList<>();
+        Integer nextMemberId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals("persons")) {
+                expectArray(parser, value);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    modelPersons.add(readEntry(parser, JsonAdaptedPerson.class).toTrustedModelType());
+                }
+            } else if (fieldName.equals("events")) {
+                expectArray(parser, value);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    modelEvents.add(readEntry(parser, JsonAdaptedEvent.class).toTrustedModelType());
+                }
+            } else if (fieldName.equals("nextMemberId")) {
+                nextMemberId = readNextMemberId(parser, value);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return toTrustedAddressBook(modelPersons, modelEvents, nextMemberId);
+    }
+
+    private static AddressBook toTrustedAddressBook(List<Person> modelPersons, List<Event> modelEvents,
+            Integer nextMemberId) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setTrustedPersons(modelPersons);
+        addressBook.setTrustedEvents(modelEvents);
+        if (nextMemberId != null) {
+            addressBook.raiseNextMemberId(nextMemberId);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the next member id, whose value is the current token {@code value} of {@code parser}.
+     *
+     * @throws IOException if the value is not a whole number.
+     */
+    private static int readNextMemberId(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        return parser.getIntValue();
+    }
+
+    /**
+     * Returns {@code nextMemberId} as stored, after checking that it could be given to a member.
+     *
+     * @throws IllegalValueException if it is not a valid member id.
+     */
+    private static int toModelNextMemberId(int nextMemberId) throws IllegalValueException {
+        if (!MemberId.isValidMemberId(nextMemberId)) {
+            throw new IllegalValueException(MemberId.MESSAGE_CONSTRAINTS);
+        }
+        return nextMemberId;
+    }
+
+    private static void expectArray(JsonParser parser, JsonToken value) throws JsonParseException {
+        if (value != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+    }
+
+    /**
+     * Binds the entry starting at the current token of {@code parser} to {@code entryClass}.
+     */
+    private static <T> T readEntry(JsonParser parser, Class<T> entryClass) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        return parser.readValueAs(entryClass);
+    }
+
+    private static IllegalValueException withLocation(JsonLocation location, IllegalValueException ive) {
+        return new IllegalValueException(String.format(MESSAGE_AT_LOCATION_FORMAT, location.getLineNr(),
+                location.getColumnNr(), ive.getMessage()), ive);
+    }
+
+    /**
+     * Adds {@code person} to {@code modelPersons}, recording it in {@code seenPersons}.
+     *
+     * @throws IllegalValueException if an earlier person is the same person or already has the same member id.
+     */
+    private static void addPerson(Person person, List<Person> modelPersons, SeenPersons seenPersons)
+            throws IllegalValueException {
+        if (!seenPersons.phones.add(person.getPhone())
+                || !seenPersons.emails.add(person.getEmail().value.toLowerCase(Locale.ROOT))) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (person.hasId() && !seenPersons.memberIds.add(person.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MEMBER_ID);
+        }
+        modelPersons.add(person);
+    }
+
+    /**
+     * Returns an address book of {@code modelPersons}.
+     * They are added together so that persons without an id are numbered after every stored id.
+     *
+     * @throws IllegalValueException if there are duplicate persons.
+     */
+    private static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    private static Map<String, MemberId> getLegacyAttendanceKeys(AddressBook addressBook) {
+        Map<String, MemberId> legacyAttendanceKeys = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            String legacyKey = String.format(LEGACY_ATTENDANCE_KEY_FORMAT, person.getName().fullName,
+                    person.getPhone().value);
+            legacyAttendanceKeys.put(legacyKey, person.getId());
+        }
+        return legacyAttendanceKeys;
+    }
+
+    /**
+     * Adds {@code event} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the event is a duplicate or has an attendee that is not in the address book.
+     */
+    private static void addEvent(Event event, AddressBook addressBook) throws IllegalValueException {
+        if (addressBook.hasEvent(event)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        }
+        for (MemberId attendee : event.getAttendees()) {
+            if (addressBook.getPersonById(attendee).isEmpty()) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_ATTENDEE);
+            }
+        }
+        addressBook.addEvent(event);
+    }
+
+    /**
+     * The phones, case-insensitive emails and member ids of the persons read so far, which identify a person as in
+     * {@link Person#isSamePerson(Person)}.
+     */
+    private static class SeenPersons {
+        private final Set<Phone> phones = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private final Set<MemberId> memberIds = new HashSet<>();
+    }
+
+    /**
+     * Converts a stored entry into its model object.
+     */
+    @FunctionalInterface
+    private interface Converter<T, R> {
+        R convert(T entry) throws IllegalValueException;
+    }
+
 }
@@ -39,4 +39,16 @@ public interface Storage extends AddressBookStorage, AliasBookStorage, UserPrefs
     @Override
     void saveAliasBook(AliasBook aliasBook) throws IOException;
 
+    /**
+     * Waits until all data saved through this storage has been written.
+     * @throws IOException if there was any problem writing the data.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Reports a save that was accepted earlier but could not be written, if it has not been reported yet.
+     * @throws IOException the failure of that save.
+     */
+    void reportFailedSaves() throws IOException;
+
 }
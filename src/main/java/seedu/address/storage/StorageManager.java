@@ -108,4 +108,14 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write alias book to data file: " + filePath);
         aliasBookStorage.saveAliasBook(aliasBook, filePath);
     }
+
+    @Override
+    public void flush() {
+        // Data is written as soon as it is saved, so there is nothing to wait for
+    }
+
+    @Override
+    public void reportFailedSaves() {
+        // Saves fail before they return, so none fail later
+    }
 }
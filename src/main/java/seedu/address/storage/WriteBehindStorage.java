@@ -0,0 +1,277 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that saves the address book and alias book on a background thread.
+ * Saving takes a snapshot of the data and returns without waiting for the disk. If the data is saved again before
+ * the writer gets to it, only the latest snapshot is written. A save that fails is reported by the next call to
+ * {@link #saveAddressBook(ReadOnlyAddressBook)}, {@link #saveAliasBook(AliasBook)} or {@link #flush()}.
+ *
+ * Everything else, including saving to an explicit file path, is done by the wrapped storage on the calling
+ * thread, after any queued saves have been written.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private final AtomicReference<AliasBook> pendingAliasBook = new AtomicReference<>();
+    /** The earliest save failure that has not been reported yet. */
+    private final AtomicReference<IOException> unreportedFailure = new AtomicReference<>();
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        this.storage = requireNonNull(storage);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        awaitQueuedSaves();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        awaitQueuedSaves();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be saved in the background.
+     *
+     * @throws IOException if an earlier save failed and has not been reported yet.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (pendingAddressBook.getAndSet(new AddressBookSnapshot(addressBook)) == null) {
+            writer.execute(this::writePendingAddressBook);
+        }
+        reportFailure();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        awaitQueuedSaves();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ AliasBook methods ==============================
+
+    @Override
+    public Path getAliasBookFilePath() {
+        return storage.getAliasBookFilePath();
+    }
+
+    @Override
+    public Optional<AliasBook> aliasBook() throws DataLoadingException {
+        awaitQueuedSaves();
+        return storage.aliasBook();
+    }
+
+    @Override
+    public Optional<AliasBook> aliasBook(Path filePath) throws DataLoadingException {
+        awaitQueuedSaves();
+        return storage.aliasBook(filePath);
+    }
+
+    /**
+     * Queues a snapshot of {@code aliasBook} to be saved in the background.
+     *
+     * @throws IOException if an earlier save failed and has not been reported yet.
+     */
+    @Override
+    public void saveAliasBook(AliasBook aliasBook) throws IOException {
+        requireNonNull(aliasBook);
+        if (pendingAliasBook.getAndSet(new AliasBookSnapshot(aliasBook)) == null) {
+            writer.execute(this::writePendingAliasBook);
+        }
+        reportFailure();
+    }
+
+    @Override
+    public void saveAliasBook(AliasBook aliasBook, Path filePath) throws IOException {
+        awaitQueuedSaves();
+        storage.saveAliasBook(aliasBook, filePath);
+    }
+
+    /**
+     * Waits for all queued saves to be written.
+     *
+     * @throws IOException if a save failed and has not been reported yet.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitQueuedSaves();
+        reportFailure();
+    }
+
+    /**
+     * Reports a queued save that failed in the background, without waiting for the saves still queued.
+     *
+     * @throws IOException if a save failed and has not been reported yet.
+     */
+    @Override
+    public void reportFailedSaves() throws IOException {
+        reportFailure();
+    }
+
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            recordFailure(e);
+        }
+    }
+
+    private void writePendingAliasBook() {
+        AliasBook aliasBook = pendingAliasBook.getAndSet(null);
+        try {
+            storage.saveAliasBook(aliasBook);
+        } catch (IOException e) {
+            recordFailure(e);
+        }
+    }
+
+    private void recordFailure(IOException e) {
+        logger.warning("Failed to save data in the background: " + StringUtil.getDetails(e));
+        unreportedFailure.compareAndSet(null, e);
+    }
+
+    private void reportFailure() throws IOException {
+        IOException failure = unreportedFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks until every save queued so far has been written. Saves are written in order by a single thread,
+     * so waiting for a task queued behind them is enough.
+     */
+    private void awaitQueuedSaves() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * An address book frozen at the time it was queued for saving.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Event> events;
+        private final int nextMemberId;
+        private final Optional<ChangeLog.Position> changePosition;
+
+        AddressBookSnapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+            events = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getEventList()));
+            nextMemberId = source.getNextMemberId();
+            changePosition = source.getChangePosition();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Event> getEventList() {
+            return events;
+        }
+
+        @Override
+        public int getNextMemberId() {
+            return nextMemberId;
+        }
+
+        @Override
+        public Optional<ChangeLog.Position> getChangePosition() {
+            return changePosition;
+        }
+    }
+
+    /**
+     * An alias book frozen at the time it was queued for saving. Only {@link #getAliasList()}, which is all that
+     * saving needs, reads the frozen aliases.
+     */
+    private static class AliasBookSnapshot extends AliasBook {
+        private final List<Alias> aliases;
+
+        AliasBookSnapshot(AliasBook source) {
+            aliases = source.getAliasList();
+        }
+
+        @Override
+        public List<Alias> getAliasList() {
+            return aliases;
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of an {@code Event}.
@@ -30,14 +37,22 @@ public class EventCard extends UiPart<Region> {
 
     /**
      * Creates an {@code EventCard} with the given {@code Event} and index to display.
+     * Attendees are shown as the members {@code memberLookup} finds for their ids.
      */
-    public EventCard(Event event, int displayedIndex) {
+    public EventCard(Event event, int displayedIndex, Function<MemberId, Optional<Person>> memberLookup) {
         super(FXML);
         this.event = event;
         id.setText(displayedIndex + ". ");
         name.setText(event.getName().fullName);
         date.setText(event.getDate().value);
         venue.setText(event.getVenue().value);
-        attendance.setText("Attendees: " + (event.getAttendanceList().isEmpty() ? "None" : event.getAttendanceList()));
+        List<String> attendees = event.getAttendees().stream()
+                .map(memberLookup)
+                .flatMap(Optional::stream)
+                .map(person -> String.format("%s [%s]", person.getName().fullName, person.getPhone().value))
+                .collect(Collectors.toList());
+        attendance.setText("Attendees: " + (attendees.isEmpty()
+                ? "None"
+                : String.join(Event.ATTENDANCE_DELIMITER, attendees)));
     }
 }
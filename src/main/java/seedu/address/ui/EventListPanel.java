@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -9,6 +12,8 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of events.
@@ -17,16 +22,23 @@ public class EventListPanel extends UiPart<Region> {
     private static final String FXML = "EventListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(EventListPanel.class);
 
+    private final Function<MemberId, Optional<Person>> memberLookup;
+
     @FXML
     private ListView<Event> eventListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates an {@code EventListPanel} with the given {@code ObservableList}.
+     * Attendees are displayed by looking up their member ids with {@code memberLookup}, and the cards are redrawn
+     * whenever {@code personList} changes so that edited member details show up.
      */
-    public EventListPanel(ObservableList<Event> eventList) {
+    public EventListPanel(ObservableList<Event> eventList, ObservableList<Person> personList,
+                          Function<MemberId, Optional<Person>> memberLookup) {
         super(FXML);
+        this.memberLookup = memberLookup;
         eventListView.setItems(eventList);
         eventListView.setCellFactory(listView -> new EventListViewCell());
+        personList.addListener((ListChangeListener<Person>) change -> eventListView.refresh());
     }
 
     /**
@@ -41,7 +53,7 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                setGraphic(new EventCard(event, getIndex() + 1, memberLookup).getRoot());
             }
         }
     }
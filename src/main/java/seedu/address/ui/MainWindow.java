@@ -113,7 +113,8 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(logic.getFilteredEventList(), logic.getAddressBook().getPersonList(),
+                logic::getPersonById);
 
         // show member list by default
         listPanelPlaceholder.getChildren().add(personListPanel.getRoot());
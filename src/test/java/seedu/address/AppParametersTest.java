@@ -39,10 +39,87 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_scriptWithOptions_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("members.txt"));
+        expected.setScriptStoppedOnError(false);
+        expected.setSaveInterval(50);
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--script", "members.txt",
+                "--on-error=continue", "--save-every=50"));
+
+        // script given as a named parameter
+        assertEquals(expected, AppParameters.parse("--config=config.json", "--script=members.txt",
+                "--on-error=continue", "--save-every=50"));
+    }
+
+    @Test
+    public void parse_headless_success() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--headless"));
+
+        expected.setInputPath(Paths.get("commands.pipe"));
+        expected.setSaveInterval(100);
+        assertEquals(expected, AppParameters.parse("--headless", "--input=commands.pipe", "--save-every=100"));
+    }
+
+    @Test
+    public void parse_apiPort_success() {
+        parametersStub.namedParameters.put("api-port", "8765");
+        expected.setApiPort(8765);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidApiPort_apiNotStarted() {
+        assertEquals(expected, AppParameters.parse("--api-port=0"));
+        assertEquals(expected, AppParameters.parse("--api-port=65536"));
+        assertEquals(expected, AppParameters.parse("--api-port=http"));
+    }
+
+    @Test
+    public void parse_exportPath_success() {
+        expected.setExportPath(Paths.get("export.json"));
+        assertEquals(expected, AppParameters.parse("--export=export.json"));
+    }
+
+    @Test
+    public void parse_noScript_guiStarted() {
+        assertEquals(expected, AppParameters.parse());
+        assertEquals(expected, AppParameters.parse("members.txt"));
+    }
+
+    @Test
+    public void parse_scriptWithoutUsableFile_scriptInvalid() {
+        expected.setScriptInvalid(true);
+        assertEquals(expected, AppParameters.parse("--script"));
+        assertEquals(expected, AppParameters.parse("--script="));
+        assertEquals(expected, AppParameters.parse("--script=a\0"));
+
+        // the next parameter is not taken as the script file
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse("--script", "--headless"));
+    }
+
+    @Test
+    public void parse_invalidScriptOptions_defaultsUsed() {
+        expected.setScriptPath(Paths.get("members.txt"));
+        assertEquals(expected, AppParameters.parse("--script", "members.txt", "--on-error=skip", "--save-every=0"));
+        assertEquals(expected, AppParameters.parse("--script", "members.txt", "--save-every=-5"));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", isScriptInvalid=" + appParameters.isScriptInvalid()
+                + ", isScriptStoppedOnError=" + appParameters.isScriptStoppedOnError()
+                + ", isHeadless=" + appParameters.isHeadless()
+                + ", inputPath=" + appParameters.getInputPath()
+                + ", saveInterval=" + appParameters.getSaveInterval()
+                + ", apiPort=" + appParameters.getApiPort()
+                + ", exportPath=" + appParameters.getExportPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +143,26 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script validity -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptInvalid(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different save interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setSaveInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different export path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setExportPath(Paths.get("export.json"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,22 @@
+package seedu.address;
+
+import seedu.address.commons.util.ValidationBenchmark;
+import seedu.address.logic.parser.ArgumentTokenizerBenchmark;
+import seedu.address.storage.AddressBookLoadBenchmark;
+
+/**
+ * Runs all benchmarks in turn. Run with {@code gradlew benchmark}.
+ */
+public class Benchmarks {
+
+    /**
+     * Runs every benchmark and prints its results.
+     */
+    public static void main(String[] args) {
+        ValidationBenchmark.main(args);
+        System.out.println();
+        ArgumentTokenizerBenchmark.main(args);
+        System.out.println();
+        AddressBookLoadBenchmark.main(args);
+    }
+}
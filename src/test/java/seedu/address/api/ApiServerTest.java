@@ -0,0 +1,190 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.CommandOutcome;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.alias.AliasBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonAliasBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Logic logic;
+    private ApiServer apiServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(addressBook::addPerson);
+        addressBook.addEvent(MEETING);
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonAliasBookStorage(temporaryFolder.resolve("aliasBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(new ModelManager(addressBook, new AliasBook(), new UserPrefs()), storage);
+
+        // Tests have no JavaFX thread, so commands run on the worker that receives them
+        apiServer = new ApiServer(logic, Runnable::run);
+        apiServer.start(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void getMembers_shownMembersReturned() throws Exception {
+        HttpResponse<String> response = get("/api/members");
+        assertEquals(200, response.statusCode());
+
+        JsonNode members = objectMapper.readTree(response.body()).get("members");
+        assertEquals(getTypicalPersons().size(), members.size());
+        assertEquals(1, members.get(0).get("index").asInt());
+        assertEquals(ALICE.getName().fullName, members.get(0).get("name").asText());
+    }
+
+    @Test
+    public void postCommand_success_changesSeenByLaterReads() throws Exception {
+        HttpResponse<String> response = post("/api/commands", "mark m/1,2 e/1");
+        assertEquals(200, response.statusCode());
+        assertEquals(CommandOutcome.STATUS_OK, objectMapper.readTree(response.body()).get("status").asText());
+
+        response = get("/api/events/1/attendance");
+        assertEquals(200, response.statusCode());
+        JsonNode attendance = objectMapper.readTree(response.body());
+        assertEquals(MEETING.getName().fullName, attendance.get("event").get("name").asText());
+        assertEquals(2, attendance.get("attendees").size());
+        assertEquals(ALICE.getName().fullName, attendance.get("attendees").get(0).get("name").asText());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_errorReturned() throws Exception {
+        HttpResponse<String> response = post("/api/commands", "delete member 99");
+        assertEquals(400, response.statusCode());
+        assertEquals(CommandOutcome.STATUS_ERROR, objectMapper.readTree(response.body()).get("status").asText());
+    }
+
+    @Test
+    public void getMembers_changedThroughApp_changesSeen() throws Exception {
+        // e.g. a command entered in the app window
+        logic.execute("add member n/Amy Bee p/91111111 e/amy@u.nus.edu y/1 r/Member");
+
+        JsonNode members = objectMapper.readTree(get("/api/members").body()).get("members");
+        assertEquals(getTypicalPersons().size() + 1, members.size());
+        assertEquals("Amy Bee", members.get(members.size() - 1).get("name").asText());
+    }
+
+    @Test
+    public void request_unknownPathOrMethod_errorReturned() throws Exception {
+        assertEquals(404, get("/api/persons").statusCode());
+        assertEquals(404, get("/api/events/0/attendance").statusCode());
+        assertEquals(404, get("/api/events/2/attendance").statusCode());
+        assertEquals(404, get("/api/events/attendance").statusCode());
+        assertEquals(405, post("/api/members", "").statusCode());
+        assertEquals(405, get("/api/commands").statusCode());
+    }
+
+    @Test
+    public void request_fromWebPage_rejected() throws Exception {
+        HttpRequest fromWebPage = HttpRequest.newBuilder(uriOf("/api/commands")).header("Origin", "https://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString("clear")).build();
+        HttpResponse<String> response = client.send(fromWebPage, HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(getTypicalPersons().size(), logic.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void request_otherHost_rejected() throws Exception {
+        // e.g. a web page whose host name was rebound to the loopback address
+        assertTrue(sendWithHost("/api/members", "attacker.example:" + apiServer.getPort()).startsWith("HTTP/1.1 403"));
+        assertTrue(sendWithHost("/api/members", "localhost:" + apiServer.getPort()).startsWith("HTTP/1.1 200"));
+        assertTrue(sendWithHost("/api/members", "127.0.0.1").startsWith("HTTP/1.1 200"));
+        assertTrue(sendWithHost("/api/members", "[::1]:" + apiServer.getPort()).startsWith("HTTP/1.1 200"));
+    }
+
+    @Test
+    public void postCommand_appBusy_commandNotRun() throws Exception {
+        apiServer.stop();
+        List<Runnable> queuedTasks = new ArrayList<>();
+        apiServer = new ApiServer(logic, queuedTasks::add, Duration.ofMillis(50));
+        apiServer.start(0);
+
+        HttpResponse<String> response = post("/api/commands", "clear");
+        assertEquals(503, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_COMMAND_TIMED_OUT,
+                objectMapper.readTree(response.body()).get("message").asText());
+
+        // the app gets to the command after the request gave up on it
+        queuedTasks.forEach(Runnable::run);
+        assertEquals(getTypicalPersons().size(), logic.getAddressBook().getPersonList().size());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uriOf(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uriOf(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends a GET request for {@code path} with the given {@code Host} header, which {@code HttpClient} does not
+     * allow to be set, and returns the status line of the response.
+     */
+    private String sendWithHost(String path, String host) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), apiServer.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: " + host + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+        }
+    }
+
+    private URI uriOf(String path) {
+        return URI.create("http://localhost:" + apiServer.getPort() + path);
+    }
+}
@@ -4,10 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,37 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readToBuffer_smallAndLargeFiles_fileContents() throws Exception {
+        for (int size : new int[] {0, 10, (int) FileUtil.MAPPED_READ_THRESHOLD + 10}) {
+            byte[] contents = randomBytes(size);
+            Path file = testFolder.resolve("file" + size);
+            Files.write(file, contents);
+
+            ByteBuffer buffer = FileUtil.readToBuffer(file);
+            byte[] read = new byte[buffer.remaining()];
+            buffer.get(read);
+            assertTrue(Arrays.equals(contents, read));
+        }
+    }
+
+    @Test
+    public void openForReading_smallAndLargeFiles_fileContents() throws Exception {
+        for (int size : new int[] {0, 10, (int) FileUtil.MAPPED_READ_THRESHOLD + 10}) {
+            byte[] contents = randomBytes(size);
+            Path file = testFolder.resolve("file" + size);
+            Files.write(file, contents);
+
+            try (InputStream input = FileUtil.openForReading(file)) {
+                assertTrue(Arrays.equals(contents, input.readAllBytes()));
+            }
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
 }
@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.alias.Alias;
+import seedu.address.model.event.EventName;
+import seedu.address.model.event.Venue;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Year;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the time taken by the validators of the model's values with that of the {@link String#matches(String)}
+ * calls they replaced, on a mix of valid and invalid inputs. Run with {@code gradlew benchmark}.
+ */
+public class ValidationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int CALLS_PER_ROUND = 200_000;
+
+    /** Keeps the results of the checks in use, so that they are not optimised away. */
+    private static int acceptedCount;
+
+    /**
+     * Runs the benchmark and prints the average time per call of each validator.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%-12s %14s %14s %9s%n", "Validator", "regex (ns)", "current (ns)", "speed-up");
+        run("Name", Name.VALIDATION_REGEX, Name::isValidName,
+                List.of("Alice Pauline", "Jean-Luc O'Neil", "R2D2", ""));
+        run("Email", Email.VALIDATION_REGEX, Email::isValidEmail,
+                List.of("alice@u.nus.edu", "john.doe-1@U.NUS.EDU", "alice@gmail.com", "@u.nus.edu"));
+        run("Phone", "\\d+", Phone::isDigitsOnly, List.of("94351253", "9435 1253", "+6594351253", ""));
+        run("Role", Role.VALIDATION_REGEX, Role::isValidRoleName,
+                List.of("President", "Vice President 2", " Treasurer", "co-lead"));
+        run("Year", Year.VALIDATION_REGEX, Year::isValidYear, List.of("1", "5", "6", "12"));
+        run("EventName", EventName.VALIDATION_REGEX, EventName::isValidEventName,
+                List.of("Orientation Camp", "AGM 2025", "Talk!", ""));
+        run("Venue", Venue.VALIDATION_REGEX, Venue::isValidVenue,
+                List.of("COM1 Level 2", "LT27, Science", " Hall", "Line\nbreak"));
+        run("Tag", Tag.VALIDATION_REGEX, Tag::isValidTagName, List.of("friends", "exco2025", "best friend", ""));
+        run("Alias", Alias.VALIDATION_REGEX, Alias::isValidAliasWord, List.of("a", "ls", "del ete", "add"));
+        System.out.println("Accepted: " + acceptedCount);
+    }
+
+    private static void run(String validator, String regex, Predicate<String> current, List<String> inputs) {
+        double regexTime = measure(input -> input.matches(regex), inputs);
+        double currentTime = measure(current, inputs);
+        System.out.printf("%-12s %14.1f %14.1f %8.1fx%n", validator, regexTime, currentTime, regexTime / currentTime);
+    }
+
+    /**
+     * Returns the average time, in nanoseconds, of a call to {@code check}, cycling through {@code inputs}.
+     */
+    private static double measure(Predicate<String> check, List<String> inputs) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runRound(check, inputs);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            runRound(check, inputs);
+        }
+        return (double) (System.nanoTime() - start) / ((long) MEASURED_ROUNDS * CALLS_PER_ROUND);
+    }
+
+    private static void runRound(Predicate<String> check, List<String> inputs) {
+        for (int i = 0; i < CALLS_PER_ROUND; i++) {
+            if (check.test(inputs.get(i % inputs.size()))) {
+                acceptedCount++;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    /** Inputs near the edges of the formats, including non-ASCII digits, letters, spaces and line terminators. */
+    private static final List<String> INPUTS = List.of("", " ", "  ", "a", "Z", "0", "9", "1", "5", "6", "15",
+            "12345678", "1234 5678", "abc", "ABC123", "a b", "a  b", " a", "a ", "_", "a_b", "a-b", "\u00E9", "\u00DF",
+            "\u0661\u0662", "\uFF11", "\u00A0", "\u2003a", "a\tb", "\ta", "\u000Ba", "\fa", "\ra", "\na", "a\n",
+            "a\r\n", "a\u0085", "\u0085a", "a\u2028", "\u2028a", "a\u2029b", "\uD83D\uDE00", "a\uD83D\uDE00",
+            "Block 123, #01-01", "!", "x/y");
+
+    @Test
+    public void isDigits_sameAsRegex() {
+        assertSameAsRegex("\\d+", ValidationUtil::isDigits);
+    }
+
+    @Test
+    public void isAlphanumeric_sameAsRegex() {
+        assertSameAsRegex("\\p{Alnum}+", ValidationUtil::isAlphanumeric);
+    }
+
+    @Test
+    public void isAlphanumericWithSpaces_sameAsRegex() {
+        assertSameAsRegex("[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericWithSpaces);
+    }
+
+    @Test
+    public void isCharInRange_sameAsRegex() {
+        assertSameAsRegex("[1-5]", test -> ValidationUtil.isCharInRange(test, '1', '5'));
+    }
+
+    @Test
+    public void isNonBlankLine_sameAsRegex() {
+        assertSameAsRegex("[^\\s].*", ValidationUtil::isNonBlankLine);
+    }
+
+    @Test
+    public void isDigits_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null));
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> check) {
+        for (String input : INPUTS) {
+            assertEquals(input.matches(regex), check.test(input), "Input: " + input);
+        }
+    }
+}
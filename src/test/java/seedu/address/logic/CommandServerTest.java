@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.commands.member.ListMemberCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonAliasBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+
+public class CommandServerTest {
+
+    private static final String ADD_AMY = "add member n/Amy Bee p/91111111 e/amy@u.nus.edu y/1 r/Member";
+    private static final String ADD_BOB = "add member n/Bob Choo p/92222222 e/bob@u.nus.edu y/2 r/Member";
+    private static final String ADD_CAT = "add member n/Cat Dee p/93333333 e/cat@u.nus.edu y/3 r/Member";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private CountingStorageManager storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonAliasBookStorage(temporaryFolder.resolve("aliasBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void serve_commands_oneLineOfJsonPerCommand() throws Exception {
+        assertTrue(serve(1, "list member", "", "delete member 99"));
+        List<JsonNode> responses = readResponses();
+        assertEquals(2, responses.size());
+
+        assertEquals("list member", responses.get(0).get("command").asText());
+        assertEquals(CommandOutcome.STATUS_OK, responses.get(0).get("status").asText());
+        assertEquals(ListMemberCommand.MESSAGE_SUCCESS, responses.get(0).get("feedback").asText());
+        assertTrue(responses.get(0).get("showMembers").asBoolean());
+
+        assertEquals(CommandOutcome.STATUS_ERROR, responses.get(1).get("status").asText());
+        assertTrue(responses.get(1).has("message"));
+        assertFalse(responses.get(1).has("feedback"));
+    }
+
+    @Test
+    public void serve_saveInterval_savedAfterEveryIntervalAndAtEnd() throws Exception {
+        assertTrue(serve(2, ADD_AMY, ADD_BOB, ADD_CAT));
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+
+        // after the 2nd command, then at the end
+        assertEquals(2, storage.addressBookSaves);
+    }
+
+    @Test
+    public void serve_exitCommand_laterCommandsSkipped() throws Exception {
+        assertTrue(serve(1, ADD_AMY, "exit", ADD_BOB));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(2, readResponses().size());
+        assertTrue(readResponses().get(1).get("exit").asBoolean());
+    }
+
+    @Test
+    public void serve_saveFailsInBackground_reportedForCommandThatSaved() throws Exception {
+        storage.failingSave = 1;
+        logic = new LogicManager(model, new WriteBehindStorage(storage));
+
+        assertTrue(serve(1, ADD_AMY, ADD_BOB));
+        List<JsonNode> responses = readResponses();
+        assertEquals(CommandOutcome.STATUS_ERROR, responses.get(0).get("status").asText());
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, CountingStorageManager.MESSAGE_FAILURE),
+                responses.get(0).get("message").asText());
+        assertEquals(CommandOutcome.STATUS_OK, responses.get(1).get("status").asText());
+        assertEquals(2, storage.addressBookSaves);
+    }
+
+    private boolean serve(int saveInterval, String... lines) throws IOException {
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        BufferedReader input = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return new CommandServer(logic, saveInterval, out).serve(input);
+    }
+
+    private List<JsonNode> readResponses() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> responses = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\\R")) {
+            responses.add(objectMapper.readTree(line));
+        }
+        return responses;
+    }
+
+    /**
+     * A {@code StorageManager} that counts how often the address book is saved, and can be made to fail a save.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private static final String MESSAGE_FAILURE = "disk full";
+
+        private int addressBookSaves;
+        /** The save that fails, counting from 1, or 0 if none does. */
+        private int failingSave;
+
+        CountingStorageManager(JsonAddressBookStorage addressBookStorage, JsonAliasBookStorage aliasBookStorage,
+                               JsonUserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, aliasBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            addressBookSaves++;
+            if (addressBookSaves == failingSave) {
+                throw new IOException(MESSAGE_FAILURE);
+            }
+            super.saveAddressBook(addressBook);
+        }
+    }
+}
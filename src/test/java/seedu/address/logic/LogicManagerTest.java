@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,11 +20,14 @@ import seedu.address.logic.commands.member.ListMemberCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.alias.AliasBook;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonAliasBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 
 /**
  * Contains integration tests (interaction with the Storage) and unit tests for LogicManager.
@@ -34,6 +39,7 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private CountingStorageManager storage;
 
     @BeforeEach
     public void setUp() {
@@ -44,7 +50,7 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
 
-        StorageManager storage = new StorageManager(addressBookStorage, aliasBookStorage, userPrefsStorage);
+        storage = new CountingStorageManager(addressBookStorage, aliasBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -76,6 +82,45 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListEventCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommands_unchangedBooksNotSaved() throws Exception {
+        logic.execute(ListMemberCommand.COMMAND_WORD + " member");
+        logic.execute(ListEventCommand.COMMAND_WORD + " event");
+        logic.execute(ListMemberCommand.COMMAND_WORD + " member");
+
+        // books are saved once, by the first command
+        assertEquals(1, storage.addressBookSaves);
+        assertEquals(1, storage.aliasBookSaves);
+
+        // only the modified book is saved again
+        model.addPerson(ALICE);
+        logic.execute(ListMemberCommand.COMMAND_WORD + " member");
+        assertEquals(2, storage.addressBookSaves);
+        assertEquals(1, storage.aliasBookSaves);
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_reportedAndSavedAgain() throws Exception {
+        FailingOnceStorageManager failingStorage = new FailingOnceStorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonAliasBookStorage(temporaryFolder.resolve("aliasBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        WriteBehindStorage writeBehindStorage = new WriteBehindStorage(failingStorage);
+        logic = new LogicManager(model, writeBehindStorage);
+
+        // the save is queued, then fails in the background
+        model.addPerson(ALICE);
+        logic.execute(ListMemberCommand.COMMAND_WORD + " member");
+        writeBehindStorage.readAddressBook(); // waits for the queued save
+
+        // a command that changes nothing reports the failure and saves the unsaved changes again
+        assertCommandException(ListMemberCommand.COMMAND_WORD + " member",
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, FailingOnceStorageManager.MESSAGE_FAILURE));
+        writeBehindStorage.flush();
+        assertEquals(2, failingStorage.addressBookSaves);
+        assertEquals(model.getAddressBook(), writeBehindStorage.readAddressBook().get());
+    }
+
     // =======================================================
     // Model Access Tests
     // =======================================================
@@ -118,4 +163,52 @@ public class LogicManagerTest {
         assertThrows(expectedException, expectedMessage, () -> logic.execute(inputCommand));
         assertEquals(expectedModel, model);
     }
+
+    /**
+     * A {@code StorageManager} whose first address book save fails.
+     */
+    private static class FailingOnceStorageManager extends StorageManager {
+        private static final String MESSAGE_FAILURE = "disk full";
+
+        private int addressBookSaves;
+
+        FailingOnceStorageManager(JsonAddressBookStorage addressBookStorage, JsonAliasBookStorage aliasBookStorage,
+                                  JsonUserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, aliasBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            addressBookSaves++;
+            if (addressBookSaves == 1) {
+                throw new IOException(MESSAGE_FAILURE);
+            }
+            super.saveAddressBook(addressBook);
+        }
+    }
+
+    /**
+     * A {@code StorageManager} that counts how many times each book is saved.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private int addressBookSaves;
+        private int aliasBookSaves;
+
+        CountingStorageManager(JsonAddressBookStorage addressBookStorage, JsonAliasBookStorage aliasBookStorage,
+                               JsonUserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, aliasBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            addressBookSaves++;
+            super.saveAddressBook(addressBook);
+        }
+
+        @Override
+        public void saveAliasBook(AliasBook aliasBook) throws IOException {
+            aliasBookSaves++;
+            super.saveAliasBook(aliasBook);
+        }
+    }
 }
@@ -0,0 +1,121 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonAliasBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_AMY = "add member n/Amy Bee p/91111111 e/amy@u.nus.edu y/1 r/Member";
+    private static final String ADD_BOB = "add member n/Bob Choo p/92222222 e/bob@u.nus.edu y/2 r/Member";
+    private static final String ADD_CAT = "add member n/Cat Dee p/93333333 e/cat@u.nus.edu y/3 r/Member";
+    private static final String ADD_DAN = "add member n/Dan Eng p/94444444 e/dan@u.nus.edu y/4 r/Member";
+    private static final String ADD_EVE = "add member n/Eve Foo p/95555555 e/eve@u.nus.edu y/1 r/Member";
+    private static final String INVALID_COMMAND = "delete member 99";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private CountingStorageManager storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonAliasBookStorage(temporaryFolder.resolve("aliasBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void run_validCommands_savedOnceAtEnd() {
+        assertTrue(run(true, 0, "# new members", ADD_AMY, "", ADD_BOB, ADD_CAT));
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+        assertEquals(1, storage.addressBookSaves);
+        assertTrue(getOutput().contains("Ran 3 of 3 commands"));
+        assertTrue(getOutput().contains("3 succeeded, 0 failed."));
+    }
+
+    @Test
+    public void run_saveInterval_savedAfterEveryInterval() {
+        assertTrue(run(true, 2, ADD_AMY, ADD_BOB, ADD_CAT, ADD_DAN, ADD_EVE));
+        assertEquals(5, model.getAddressBook().getPersonList().size());
+
+        // after the 2nd and 4th commands, then at the end
+        assertEquals(3, storage.addressBookSaves);
+    }
+
+    @Test
+    public void run_failureWhenStoppedOnError_laterCommandsSkipped() {
+        assertFalse(run(true, 0, ADD_AMY, INVALID_COMMAND, ADD_BOB));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        // the change made before the failure is still saved
+        assertEquals(1, storage.addressBookSaves);
+        assertTrue(getOutput().contains("FAILED"));
+        assertTrue(getOutput().contains("Ran 2 of 3 commands"));
+    }
+
+    @Test
+    public void run_failureWhenContinuedOnError_laterCommandsRun() {
+        assertFalse(run(false, 0, ADD_AMY, INVALID_COMMAND, ADD_BOB));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertTrue(getOutput().contains("Ran 3 of 3 commands"));
+        assertTrue(getOutput().contains("2 succeeded, 1 failed."));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsSkipped() {
+        assertTrue(run(true, 0, ADD_AMY, "exit", ADD_BOB));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(getOutput().contains("Ran 2 of 3 commands"));
+    }
+
+    private boolean run(boolean isStoppedOnError, int saveInterval, String... lines) {
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        return new ScriptRunner(logic, isStoppedOnError, saveInterval, out).run(List.of(lines));
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A {@code StorageManager} that counts how often the address book is saved.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private int addressBookSaves;
+
+        CountingStorageManager(JsonAddressBookStorage addressBookStorage, JsonAliasBookStorage aliasBookStorage,
+                               JsonUserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, aliasBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            addressBookSaves++;
+            super.saveAddressBook(addressBook);
+        }
+    }
+}
@@ -4,6 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -36,7 +41,7 @@ public class MarkCommandTest {
         Person updatedMember = model.getFilteredPersonList().get(0);
         Event updatedEvent = model.getFilteredEventList().get(0);
         assertEquals(1, updatedMember.getAttendanceCount());
-        assertTrue(updatedEvent.hasAttendee(member.getAttendanceKey()));
+        assertTrue(updatedEvent.hasAttendee(updatedMember.getId()));
     }
 
     @Test
@@ -55,6 +60,36 @@ public class MarkCommandTest {
         assertEquals(1, updatedMember.getAttendanceCount());
     }
 
+    @Test
+    public void execute_multipleMembers_allMarkedOnce() throws Exception {
+        Event event = new EventBuilder().withName("General Meeting").build();
+        Model model = prepareModel(List.of(ALICE, BENSON, CARL), event);
+
+        MarkCommand command = new MarkCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(3)),
+                Index.fromOneBased(1));
+        CommandResult result = command.execute(model);
+
+        assertEquals(new CommandResult(String.format(MarkCommand.MESSAGE_SUCCESS_BULK, 2)), result);
+        List<Person> members = model.getFilteredPersonList();
+        Event updatedEvent = model.getFilteredEventList().get(0);
+        assertEquals(List.of(1, 0, 1), members.stream().map(Person::getAttendanceCount).toList());
+        assertEquals(List.of(members.get(0).getId(), members.get(2).getId()),
+                List.copyOf(updatedEvent.getAttendees()));
+    }
+
+    @Test
+    public void execute_multipleMembersOneAlreadyMarked_nothingMarked() throws Exception {
+        Event event = new EventBuilder().withName("General Meeting").build();
+        Model model = prepareModel(List.of(ALICE, BENSON, CARL), event);
+        new MarkCommand(Index.fromOneBased(2), Index.fromOneBased(1)).execute(model);
+
+        MarkCommand command = new MarkCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(2),
+                Index.fromOneBased(3)), Index.fromOneBased(1));
+
+        assertCommandFailure(command, model, String.format(MarkCommand.MESSAGE_DUPLICATE_ATTENDANCE_BULK, 2));
+        assertEquals(1, model.getFilteredEventList().get(0).getAttendees().size());
+    }
+
     @Test
     public void execute_invalidMemberIndex_throwsCommandException() {
         Person member = new PersonBuilder().withName("Cheryl Ng").build();
@@ -114,6 +149,13 @@ public class MarkCommandTest {
         assertFalse(markFirst.equals(5));
     }
 
+    private Model prepareModel(List<Person> members, Event event) {
+        AddressBook addressBook = new AddressBook();
+        members.forEach(addressBook::addPerson);
+        addressBook.addEvent(event);
+        return new ModelManager(addressBook, new AliasBook(), new UserPrefs());
+    }
+
     private Model prepareModel(Person member, Event event) {
         AddressBook addressBook = new AddressBook();
         addressBook.addPerson(member);
@@ -4,6 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -14,6 +19,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.alias.AliasBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -23,11 +29,13 @@ import seedu.address.testutil.PersonBuilder;
  */
 public class UnmarkCommandTest {
 
+    private static final MemberId MEMBER_ID = new MemberId(1);
+
     @Test
     public void execute_memberMarked_success() throws Exception {
-        Person member = new PersonBuilder().withName("Alice Tan").build().withAttendanceCount(1);
+        Person member = new PersonBuilder().withName("Alice Tan").build().withId(MEMBER_ID).withAttendanceCount(1);
         Event event = new EventBuilder().withName("Team Sync").build()
-                .addToAttendanceList(member.getAttendanceKey());
+                .addToAttendanceList(MEMBER_ID);
         Model model = prepareModel(member, event);
 
         UnmarkCommand command = new UnmarkCommand(Index.fromOneBased(1), Index.fromOneBased(1));
@@ -37,12 +45,12 @@ public class UnmarkCommandTest {
         Person updatedMember = model.getFilteredPersonList().get(0);
         Event updatedEvent = model.getFilteredEventList().get(0);
         assertEquals(0, updatedMember.getAttendanceCount());
-        assertFalse(updatedEvent.hasAttendee(member.getAttendanceKey()));
+        assertFalse(updatedEvent.hasAttendee(MEMBER_ID));
     }
 
     @Test
     public void execute_memberNotMarked_throwsCommandException() {
-        Person member = new PersonBuilder().withName("Brandon Lee").build();
+        Person member = new PersonBuilder().withName("Brandon Lee").build().withId(MEMBER_ID);
         Event event = new EventBuilder().withName("Weekly Sync").build();
         Model model = prepareModel(member, event);
 
@@ -50,11 +58,42 @@ public class UnmarkCommandTest {
         assertCommandFailure(command, model, UnmarkCommand.MESSAGE_NO_ATTENDANCE_TO_UNMARK);
     }
 
+    @Test
+    public void execute_multipleMembers_allUnmarked() throws Exception {
+        Event event = new EventBuilder().withName("General Meeting").build()
+                .withAttendees(List.of(new MemberId(1), new MemberId(2), new MemberId(3)));
+        Model model = prepareModel(List.of(ALICE.withId(new MemberId(1)).withAttendanceCount(1),
+                BENSON.withId(new MemberId(2)).withAttendanceCount(1),
+                CARL.withId(new MemberId(3)).withAttendanceCount(1)), event);
+
+        UnmarkCommand command = new UnmarkCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(3)),
+                Index.fromOneBased(1));
+        CommandResult result = command.execute(model);
+
+        assertEquals(new CommandResult(String.format(UnmarkCommand.MESSAGE_SUCCESS_BULK, 2)), result);
+        List<Person> members = model.getFilteredPersonList();
+        assertEquals(List.of(0, 1, 0), members.stream().map(Person::getAttendanceCount).toList());
+        assertEquals(List.of(new MemberId(2)), List.copyOf(model.getFilteredEventList().get(0).getAttendees()));
+    }
+
+    @Test
+    public void execute_multipleMembersOneNotMarked_nothingUnmarked() {
+        Event event = new EventBuilder().withName("General Meeting").build().addToAttendanceList(new MemberId(1));
+        Model model = prepareModel(List.of(ALICE.withId(new MemberId(1)).withAttendanceCount(1),
+                BENSON.withId(new MemberId(2))), event);
+
+        UnmarkCommand command = new UnmarkCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(2)),
+                Index.fromOneBased(1));
+
+        assertCommandFailure(command, model, String.format(UnmarkCommand.MESSAGE_NO_ATTENDANCE_TO_UNMARK_BULK, 2));
+        assertEquals(1, model.getFilteredPersonList().get(0).getAttendanceCount());
+    }
+
     @Test
     public void execute_invalidMemberIndex_throwsCommandException() {
-        Person member = new PersonBuilder().withName("Cheryl Ng").build().withAttendanceCount(1);
+        Person member = new PersonBuilder().withName("Cheryl Ng").build().withId(MEMBER_ID).withAttendanceCount(1);
         Event event = new EventBuilder().withName("Orientation Briefing").build()
-                .addToAttendanceList(member.getAttendanceKey());
+                .addToAttendanceList(MEMBER_ID);
         Model model = prepareModel(member, event);
 
         Index outOfBoundsMemberIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -65,9 +104,9 @@ public class UnmarkCommandTest {
 
     @Test
     public void execute_invalidEventIndex_throwsCommandException() {
-        Person member = new PersonBuilder().withName("Daryl Ong").build().withAttendanceCount(1);
+        Person member = new PersonBuilder().withName("Daryl Ong").build().withId(MEMBER_ID).withAttendanceCount(1);
         Event event = new EventBuilder().withName("Career Talk").build()
-                .addToAttendanceList(member.getAttendanceKey());
+                .addToAttendanceList(MEMBER_ID);
         Model model = prepareModel(member, event);
 
         Index outOfBoundsEventIndex = Index.fromOneBased(model.getFilteredEventList().size() + 1);
@@ -78,9 +117,9 @@ public class UnmarkCommandTest {
 
     @Test
     public void execute_bothIndexesInvalid_throwsCommandException() {
-        Person member = new PersonBuilder().withName("Farah Lee").build().withAttendanceCount(1);
+        Person member = new PersonBuilder().withName("Farah Lee").build().withId(MEMBER_ID).withAttendanceCount(1);
         Event event = new EventBuilder().withName("Design Review").build()
-                .addToAttendanceList(member.getAttendanceKey());
+                .addToAttendanceList(MEMBER_ID);
         Model model = prepareModel(member, event);
 
         Index outOfBoundsMemberIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -92,9 +131,9 @@ public class UnmarkCommandTest {
 
     @Test
     public void execute_attendanceDoesNotGoBelowZero_success() throws Exception {
-        Person member = new PersonBuilder().withName("Evelyn Koh").build(); // attendance count 0
+        Person member = new PersonBuilder().withName("Evelyn Koh").build().withId(MEMBER_ID); // attendance count 0
         Event event = new EventBuilder().withName("Code Sprint").build()
-                .addToAttendanceList(member.getAttendanceKey());
+                .addToAttendanceList(MEMBER_ID);
         Model model = prepareModel(member, event);
 
         UnmarkCommand command = new UnmarkCommand(Index.fromOneBased(1), Index.fromOneBased(1));
@@ -126,6 +165,13 @@ public class UnmarkCommandTest {
         assertFalse(unmarkFirst.equals(5));
     }
 
+    private Model prepareModel(List<Person> members, Event event) {
+        AddressBook addressBook = new AddressBook();
+        members.forEach(addressBook::addPerson);
+        addressBook.addEvent(event);
+        return new ModelManager(addressBook, new AliasBook(), new UserPrefs());
+    }
+
     private Model prepareModel(Person member, Event event) {
         AddressBook addressBook = new AddressBook();
         addressBook.addPerson(member);
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +28,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.alias.Alias;
 import seedu.address.model.alias.AliasBook;
+import seedu.address.model.event.DateRange;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EventBuilder;
 
@@ -273,6 +277,11 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void runBatch(Consumer<Model> mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -293,6 +302,21 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getPersonById(MemberId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getPersonNameMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getPersonRoleMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -333,6 +357,11 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Event> getEventDateMatcher(List<DateRange> ranges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         // Alias-related methods from Model
 
         @Override
@@ -381,6 +410,16 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAliasBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Alias> getAliasList() {
             throw new AssertionError("This method should not be called.");
@@ -9,6 +9,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,7 +26,9 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.alias.Alias;
 import seedu.address.model.alias.AliasBook;
+import seedu.address.model.event.DateRange;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -193,6 +197,11 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void runBatch(Consumer<Model> mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +222,21 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getPersonById(MemberId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getPersonNameMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getPersonRoleMatcher(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -253,6 +277,11 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Event> getEventDateMatcher(List<DateRange> ranges) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addAlias(Alias alias) {
             throw new AssertionError("This method should not be called.");
@@ -298,6 +327,16 @@ public class AddMemberCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAliasBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Alias> getAliasList() {
             throw new AssertionError("This method should not be called.");
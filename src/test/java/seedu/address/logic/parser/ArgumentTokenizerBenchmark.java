@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.function.BiFunction;
+
+/**
+ * Compares the time taken by {@link ArgumentTokenizer} with that of the tokenizer it replaced, on the arguments of
+ * typical commands. Run with {@code gradlew benchmark}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int CALLS_PER_ROUND = 200_000;
+
+    /** Keeps the results of the tokenizers in use, so that they are not optimised away. */
+    private static int preambleLength;
+
+    /**
+     * Runs the benchmark and prints the average time per call of each tokenizer.
+     */
+    public static void main(String[] args) {
+        System.out.printf("%-12s %14s %14s %9s%n", "Arguments", "before (ns)", "current (ns)", "speed-up");
+        run("add member", " n/Alice Pauline p/94351253 e/alice@u.nus.edu y/2 r/President r/Treasurer",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_YEAR, PREFIX_ROLE);
+        run("add event", " n/Orientation Camp d/2025-08-01 v/COM1 Level 2",
+                PREFIX_NAME, PREFIX_DATE, PREFIX_LOCATION);
+        run("mark", " m/1 2 3 4 5 e/2", PREFIX_MEMBER, PREFIX_EVENT);
+        run("edit member", " 1 p/91234567 e/johndoe@u.nus.edu",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_YEAR, PREFIX_ROLE);
+        System.out.println("Preamble characters: " + preambleLength);
+    }
+
+    private static void run(String name, String argsString, Prefix... prefixes) {
+        double beforeTime = measure(ReferenceArgumentTokenizer::tokenize, argsString, prefixes);
+        double currentTime = measure(ArgumentTokenizer::tokenize, argsString, prefixes);
+        System.out.printf("%-12s %14.1f %14.1f %8.1fx%n", name, beforeTime, currentTime, beforeTime / currentTime);
+    }
+
+    /**
+     * Returns the average time, in nanoseconds, of a call to {@code tokenizer}.
+     */
+    private static double measure(BiFunction<String, Prefix[], ArgumentMultimap> tokenizer, String argsString,
+            Prefix[] prefixes) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runRound(tokenizer, argsString, prefixes);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            runRound(tokenizer, argsString, prefixes);
+        }
+        return (double) (System.nanoTime() - start) / ((long) MEASURED_ROUNDS * CALLS_PER_ROUND);
+    }
+
+    private static void runRound(BiFunction<String, Prefix[], ArgumentMultimap> tokenizer, String argsString,
+            Prefix[] prefixes) {
+        for (int i = 0; i < CALLS_PER_ROUND; i++) {
+            preambleLength += tokenizer.apply(argsString, prefixes).getPreamble().length();
+        }
+    }
+}
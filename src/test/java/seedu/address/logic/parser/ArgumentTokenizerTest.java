@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +138,35 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_nestedPrefixes_longestRecognised() {
+        Prefix pSlashS = new Prefix("p/s/");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/s/ first p/ second", pSlash, pSlashS);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pSlashS, "first");
+        assertArgumentPresent(argMultimap, pSlash, "second");
+    }
+
+    @Test
+    public void tokenize_generatedArguments_sameAsReference() {
+        String[] fragments = {" ", "  ", "\t", "p/", "-t", "^Q", "--u", "p", "/", "-", "value", "a b", "\n"};
+        Random random = new Random(22);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder argsString = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                argsString.append(fragments[random.nextInt(fragments.length)]);
+            }
+
+            ArgumentMultimap expected = ReferenceArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT, hatQ);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT, hatQ);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), "Arguments: " + argsString);
+            for (Prefix prefix : new Prefix[] {pSlash, dashT, hatQ, unknownPrefix}) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), "Arguments: " + argsString);
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -6,6 +6,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -23,10 +25,19 @@ public class AttendanceParserUtilTest {
     @Test
     public void parseIndexes_validArgs_success() throws ParseException {
         AttendanceParserUtil.AttendanceIndexes indexes = AttendanceParserUtil.parseIndexes(" m/2 e/3 ", USAGE);
-        assertEquals(Index.fromOneBased(2), indexes.getMemberIndex());
+        assertEquals(List.of(Index.fromOneBased(2)), indexes.getMemberIndexes());
         assertEquals(Index.fromOneBased(3), indexes.getEventIndex());
     }
 
+    @Test
+    public void parseIndexes_memberRanges_success() throws ParseException {
+        AttendanceParserUtil.AttendanceIndexes indexes =
+                AttendanceParserUtil.parseIndexes(" m/1-3,5 e/2 ", USAGE);
+        assertEquals(List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3),
+                Index.fromOneBased(5)), indexes.getMemberIndexes());
+        assertEquals(Index.fromOneBased(2), indexes.getEventIndex());
+    }
+
     @Test
     public void parseIndexes_missingMemberPrefix_throwsParseException() {
         ParseException exception = assertThrows(ParseException.class, () ->
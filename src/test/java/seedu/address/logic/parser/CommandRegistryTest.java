@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.UnmarkCommand;
+import seedu.address.logic.commands.member.HelpCommand;
+import seedu.address.model.alias.Alias;
+
+public class CommandRegistryTest {
+
+    @Test
+    public void getParser_commandWord_sameParserEachTime() {
+        assertTrue(CommandRegistry.getParser(AddCommand.COMMAND_WORD) instanceof AddCommandParser);
+        assertSame(CommandRegistry.getParser(AddCommand.COMMAND_WORD),
+                CommandRegistry.getParser(AddCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void getParser_unknownWord_returnsNull() {
+        assertNull(CommandRegistry.getParser("unknown"));
+        assertNull(CommandRegistry.getParser("ADD"));
+    }
+
+    @Test
+    public void getCommandWords_everyCommandInRegistrationOrder() {
+        List<String> commandWords = List.copyOf(CommandRegistry.getCommandWords());
+        assertEquals(AddCommand.COMMAND_WORD, commandWords.get(0));
+        assertEquals(UnmarkCommand.COMMAND_WORD, commandWords.get(commandWords.size() - 1));
+        for (String commandWord : commandWords) {
+            assertTrue(CommandRegistry.isCommandWord(commandWord));
+        }
+        assertFalse(CommandRegistry.isCommandWord("all"));
+    }
+
+    @Test
+    public void commandWords_sharedWithAliasesAndHelp() throws Exception {
+        assertEquals(CommandRegistry.getCommandWords(), Alias.SET_OF_COMMANDS);
+
+        String helpFeedback = CommandRegistry.getParser(HelpCommand.COMMAND_WORD).parse("").execute(null)
+                .getFeedbackToUser();
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE + "\n" + String.format(HelpCommand.MESSAGE_COMMAND_LIST,
+                String.join(", ", CommandRegistry.getCommandWords())), helpFeedback);
+    }
+}
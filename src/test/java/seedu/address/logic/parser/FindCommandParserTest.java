@@ -15,6 +15,7 @@ import seedu.address.logic.commands.member.FindMemberNameCommand;
 import seedu.address.logic.commands.member.FindMemberRoleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.DateContainsKeywordsPredicate;
+import seedu.address.model.event.DateRange;
 import seedu.address.model.event.EventNameContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
@@ -122,6 +123,19 @@ public class FindCommandParserTest {
         assertEquals(expectedCommand, parser.parse("event d/  2025-12  "));
     }
 
+    @Test
+    public void parse_eventDateRange_returnsFindEventDateCommand() throws Exception {
+        FindCommand expectedCommand =
+                new FindEventDateCommand(new DateContainsKeywordsPredicate(Arrays.asList("2025-01..2025-03")));
+        assertEquals(expectedCommand, parser.parse("event d/2025-01..2025-03"));
+    }
+
+    @Test
+    public void parse_invalidEventDateRange_throwsParseException() {
+        ParseException exception = assertThrows(ParseException.class, () -> parser.parse("event d/2025-03..2025-01"));
+        assertEquals(DateRange.MESSAGE_CONSTRAINTS, exception.getMessage());
+    }
+
     // ---------------------- invalid/edge cases: general ----------------------
 
     @Test
@@ -6,6 +6,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MEMBER;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -25,6 +27,20 @@ public class MarkCommandParserTest {
         assertParseSuccess(parser, "  m/1 e/2  ", expectedCommand);
     }
 
+    @Test
+    public void parse_memberRangesAndLists_returnsMarkCommand() {
+        MarkCommand expectedCommand = new MarkCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(2),
+                Index.fromOneBased(3), Index.fromOneBased(5)), Index.fromOneBased(2));
+        assertParseSuccess(parser, " m/1-3, 5,2 e/2", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidMemberRange_throwsParseException() {
+        assertParseFailure(parser, " m/3-1 e/1", ParserUtil.MESSAGE_INVALID_INDEX_RANGE);
+        assertParseFailure(parser, " m/1-2-3 e/1", ParserUtil.MESSAGE_INVALID_INDEX_RANGE);
+        assertParseFailure(parser, " m/1,,2 e/1", ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+
     @Test
     public void parse_missingMemberPrefix_throwsParseException() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE);
@@ -1,12 +1,18 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.ParserUtil.MAX_INDEX_RANGE_SIZE;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INDEX_RANGE_TOO_LARGE;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Date;
 import seedu.address.model.event.EventName;
@@ -63,6 +69,33 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_rangesAndLists_success() throws Exception {
+        assertEquals(List.of(Index.fromOneBased(4), Index.fromOneBased(1), Index.fromOneBased(2)),
+                ParserUtil.parseIndexes(" 4 , 1-2 ,2"));
+        assertEquals(List.of(Index.fromOneBased(7)), ParserUtil.parseIndexes("7-7"));
+    }
+
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_RANGE, () -> ParserUtil.parseIndexes("5-2"));
+        assertThrows(ParseException.class, MESSAGE_INDEX_RANGE_TOO_LARGE, () -> ParserUtil.parseIndexes("1-99999"));
+    }
+
+    @Test
+    public void parseIndexes_rangesTooLargeInTotal_throwsParseException() throws Exception {
+        // each range is within the limit, but together they are not
+        assertThrows(ParseException.class, MESSAGE_INDEX_RANGE_TOO_LARGE, () ->
+                ParserUtil.parseIndexes("1-10000,10001"));
+        assertThrows(ParseException.class, MESSAGE_INDEX_RANGE_TOO_LARGE, () ->
+                ParserUtil.parseIndexes("1-6000,20001-26000"));
+
+        // repeated indexes are counted once
+        assertEquals(MAX_INDEX_RANGE_SIZE, ParserUtil.parseIndexes("1-10000,1-10000,5").size());
+    }
+
     // ========== Name ==========
 
     @Test
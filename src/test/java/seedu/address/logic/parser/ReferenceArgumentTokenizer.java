@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The tokenizer as it was before {@link ArgumentTokenizer} was changed to scan its input once: it searches the
+ * arguments string for each prefix in turn, then sorts all the positions found. It is kept as the reference that the
+ * current tokenizer is checked and benchmarked against.
+ */
+class ReferenceArgumentTokenizer {
+
+    /**
+     * Tokenizes {@code argsString} with {@code prefixes} the way {@link ArgumentTokenizer#tokenize} used to.
+     */
+    static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+        List<PrefixPosition> positions = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            int position = findPrefixPosition(argsString, prefix.getPrefix(), 0);
+            while (position != -1) {
+                positions.add(new PrefixPosition(prefix, position));
+                position = findPrefixPosition(argsString, prefix.getPrefix(), position);
+            }
+        }
+
+        positions.sort(Comparator.comparingInt(position -> position.startPosition));
+        positions.add(0, new PrefixPosition(new Prefix(""), 0));
+        positions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        for (int i = 0; i < positions.size() - 1; i++) {
+            PrefixPosition current = positions.get(i);
+            int valueStartPos = current.startPosition + current.prefix.getPrefix().length();
+            argMultimap.put(current.prefix,
+                    argsString.substring(valueStartPos, positions.get(i + 1).startPosition).trim());
+        }
+        return argMultimap;
+    }
+
+    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+        return prefixIndex == -1 ? -1 : prefixIndex + 1;
+    }
+
+    private static class PrefixPosition {
+        private final Prefix prefix;
+        private final int startPosition;
+
+        PrefixPosition(Prefix prefix, int startPosition) {
+            this.prefix = prefix;
+            this.startPosition = startPosition;
+        }
+    }
+}
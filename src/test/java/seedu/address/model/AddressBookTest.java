@@ -2,23 +2,31 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ROLE_PRESIDENT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_YEAR_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -89,7 +97,212 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_personWithoutId_assignedUniqueId() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person storedAlice = addressBook.getPersonList().get(0);
+        Person storedBenson = addressBook.getPersonList().get(1);
+        assertTrue(storedAlice.hasId());
+        assertNotEquals(storedAlice.getId(), storedBenson.getId());
+        assertEquals(Optional.of(storedBenson), addressBook.getPersonById(storedBenson.getId()));
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsMemberId() {
+        addressBook.addPerson(ALICE);
+        MemberId aliceId = addressBook.getPersonList().get(0).getId();
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(aliceId, addressBook.getPersonList().get(0).getId());
+        assertEquals(Optional.of(editedAlice), addressBook.getPersonById(aliceId));
+    }
+
+    @Test
+    public void setPersons_someWithIds_storedIdsKeptAndOthersNumberedAfter() {
+        addressBook.setPersons(List.of(BENSON, ALICE.withId(new MemberId(5))));
+        assertEquals(new MemberId(6), addressBook.getPersonList().get(0).getId());
+        assertEquals(new MemberId(5), addressBook.getPersonList().get(1).getId());
+    }
+
+    @Test
+    public void removePerson_highestId_idNotGivenAgain() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(BENSON);
+        addressBook.setPersons(List.of());
+
+        addressBook.addPerson(BENSON);
+        assertEquals(new MemberId(3), addressBook.getPersonList().get(0).getId());
+        assertEquals(4, new AddressBook(addressBook).getNextMemberId());
+    }
+
+    @Test
+    public void getEventsAttendedBy_eventsAddedAndRemoved_tracksAttendance() {
+        addressBook.addPerson(ALICE);
+        MemberId aliceId = addressBook.getPersonList().get(0).getId();
+        Event meeting = MEETING.addToAttendanceList(aliceId);
+        Event workshop = WORKSHOP.addToAttendanceList(aliceId);
+        addressBook.addEvent(meeting);
+        addressBook.addEvent(workshop);
+        assertEquals(List.of(meeting, workshop), addressBook.getEventsAttendedBy(aliceId));
+
+        addressBook.removeEvent(meeting);
+        assertEquals(List.of(workshop), addressBook.getEventsAttendedBy(aliceId));
+        assertEquals(List.of(), addressBook.getEventsAttendedBy(new MemberId(99)));
+    }
+
+    @Test
+    public void getEventsAttendedBy_eventReplaced_reindexesAttendance() {
+        MemberId firstId = new MemberId(1);
+        MemberId secondId = new MemberId(2);
+        addressBook.addEvent(MEETING.addToAttendanceList(firstId));
+
+        // target carries a stale attendance list; the recorded one is dropped
+        addressBook.setEvent(MEETING, MEETING.addToAttendanceList(secondId));
+        assertEquals(List.of(), addressBook.getEventsAttendedBy(firstId));
+        assertEquals(1, addressBook.getEventsAttendedBy(secondId).size());
+    }
+
+    @Test
+    public void getAttendeesOf_personEdited_returnsCurrentPersons() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        MemberId aliceId = addressBook.getPersonList().get(0).getId();
+        addressBook.addEvent(MEETING.withAttendees(List.of(aliceId, new MemberId(99))));
+        assertEquals(List.of(ALICE), addressBook.getAttendeesOf(MEETING));
+
+        Person editedAlice = ALICE.withAttendanceCount(ALICE.getAttendanceCount() + 1);
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), addressBook.getAttendeesOf(MEETING));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(List.of(), addressBook.getAttendeesOf(MEETING));
+        assertEquals(List.of(), addressBook.getAttendeesOf(WORKSHOP));
+    }
+
+    @Test
+    public void listeners_listsChanged_indexesAlreadyUpdated() {
+        List<Optional<Person>> personsSeen = new ArrayList<>();
+        List<List<Person>> attendeesSeen = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getAddedSubList().forEach(person -> personsSeen.add(addressBook.getPersonById(person.getId())));
+                change.getRemoved().forEach(person -> personsSeen.add(addressBook.getPersonById(person.getId())));
+            }
+        });
+        addressBook.getEventList().addListener((ListChangeListener<Event>) change -> {
+            while (change.next()) {
+                change.getAddedSubList().forEach(event -> attendeesSeen.add(addressBook.getAttendeesOf(event)));
+            }
+        });
+
+        addressBook.addPerson(ALICE);
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.addEvent(MEETING.addToAttendanceList(alice.getId()));
+        addressBook.removePerson(alice);
+
+        assertEquals(List.of(Optional.of(alice), Optional.empty()), personsSeen);
+        assertEquals(List.of(List.of(alice)), attendeesSeen);
+    }
+
+    @Test
+    public void setPerson_clashesWithOtherPerson_indexesUnchanged() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person alice = addressBook.getPersonList().get(0);
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.setPerson(ALICE, BENSON));
+        assertEquals(Optional.of(alice), addressBook.getPersonById(alice.getId()));
+    }
+
+    @Test
+    public void runBatch_severalChanges_listenersNotifiedOncePerList() {
+        int[] personChanges = {0};
+        int[] eventChanges = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> personChanges[0]++);
+        addressBook.getEventList().addListener((ListChangeListener<Event>) change -> eventChanges[0]++);
+
+        addressBook.runBatch(book -> {
+            book.addPerson(ALICE);
+            book.addPerson(BENSON);
+            book.addEvent(MEETING);
+            book.setEvent(MEETING, MEETING.addToAttendanceList(book.getPersonList().get(0).getId()));
+            book.removePerson(BENSON);
+        });
+
+        assertEquals(1, personChanges[0]);
+        assertEquals(1, eventChanges[0]);
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        assertEquals(List.of(ALICE), addressBook.getAttendeesOf(MEETING));
+    }
+
+    @Test
+    public void runBatch_mutationsThrow_changesRolledBack() {
+        addressBook.addPerson(ALICE);
+        AddressBook expected = new AddressBook(addressBook);
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.runBatch(book -> {
+            book.addEvent(MEETING);
+            book.addPerson(BENSON);
+            book.addPerson(BENSON);
+        }));
+        assertEquals(expected, addressBook);
+        assertFalse(addressBook.hasEvent(MEETING));
+    }
+
+    @Test
+    public void runBatch_nestedBatchThrows_restoredByOutermostBatch() {
+        // a nested batch is not restored on its own
+        addressBook.runBatch(book -> {
+            book.addPerson(ALICE);
+            assertThrows(IllegalStateException.class, () -> book.runBatch(nested -> {
+                nested.addPerson(BENSON);
+                throw new IllegalStateException();
+            }));
+        });
+        assertEquals(List.of(ALICE, BENSON), addressBook.getPersonList());
+
+        // the outermost batch restores the changes of the batches nested in it
+        assertThrows(IllegalStateException.class, () -> addressBook.runBatch(book -> {
+            book.removePerson(ALICE);
+            book.runBatch(nested -> {
+                nested.addEvent(MEETING);
+                throw new IllegalStateException();
+            });
+        }));
+        assertEquals(List.of(ALICE, BENSON), addressBook.getPersonList());
+        assertFalse(addressBook.hasEvent(MEETING));
+    }
+
     // Optional: fix and re-enable toString test
+    @Test
+    public void getVersion_modifiedOrRead() {
+        AddressBook addressBook = new AddressBook();
+        long version = addressBook.getVersion();
+
+        // reads -> version unchanged
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        addressBook.getEventList();
+        assertEquals(version, addressBook.getVersion());
+
+        // person added -> version increases
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        // event added -> version increases
+        version = addressBook.getVersion();
+        addressBook.addEvent(MEETING);
+        assertTrue(addressBook.getVersion() > version);
+
+        // person removed -> version increases
+        version = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = new AddressBook().toString();
@@ -116,5 +329,10 @@ public class AddressBookTest {
         public ObservableList<Event> getEventList() {
             return events;
         }
+
+        @Override
+        public int getNextMemberId() {
+            return 1;
+        }
     }
 }
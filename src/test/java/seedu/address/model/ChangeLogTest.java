@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ChangeLog.Change;
+
+public class ChangeLogTest {
+
+    @Test
+    public void getChangesBetween_changesRecorded_changesInOrder() {
+        ChangeLog changeLog = new ChangeLog();
+        ChangeLog.Position start = changeLog.getPosition();
+        Change putAlice = Change.putPerson(ALICE);
+        Change addMeeting = Change.addEvent(MEETING);
+        changeLog.record(putAlice);
+        changeLog.record(addMeeting);
+
+        assertEquals(List.of(putAlice, addMeeting),
+                ChangeLog.getChangesBetween(start, changeLog.getPosition()).get());
+        assertEquals(List.of(), ChangeLog.getChangesBetween(start, start).get());
+    }
+
+    @Test
+    public void getChangesBetween_resetRecorded_empty() {
+        ChangeLog changeLog = new ChangeLog();
+        ChangeLog.Position start = changeLog.getPosition();
+        changeLog.record(Change.putPerson(ALICE));
+        changeLog.record(Change.reset());
+
+        assertFalse(ChangeLog.getChangesBetween(start, changeLog.getPosition()).isPresent());
+    }
+
+    @Test
+    public void getChangesBetween_otherLog_empty() {
+        ChangeLog changeLog = new ChangeLog();
+        ChangeLog otherChangeLog = new ChangeLog();
+        otherChangeLog.record(Change.putPerson(ALICE));
+
+        assertFalse(ChangeLog.getChangesBetween(changeLog.getPosition(), otherChangeLog.getPosition()).isPresent());
+    }
+
+    @Test
+    public void rollBackTo_changesDiscarded() {
+        ChangeLog changeLog = new ChangeLog();
+        ChangeLog.Position start = changeLog.getPosition();
+        changeLog.record(Change.putPerson(ALICE));
+        ChangeLog.Position rolledBack = changeLog.getPosition();
+        changeLog.rollBackTo(start);
+        Change addMeeting = Change.addEvent(MEETING);
+        changeLog.record(addMeeting);
+
+        assertEquals(List.of(addMeeting), ChangeLog.getChangesBetween(start, changeLog.getPosition()).get());
+        // a reader that had caught up with the discarded change cannot continue from there
+        assertFalse(ChangeLog.getChangesBetween(rolledBack, changeLog.getPosition()).isPresent());
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -120,6 +121,61 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasEvent(meeting));
     }
 
+    @Test
+    public void runBatch_filterUpdatedDuringBatch_appliedAfterBatch() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91234567").withEmail("alice@u.nus.edu").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("98765432").withEmail("bob@u.nus.edu").build();
+
+        modelManager.runBatch(model -> {
+            model.addPerson(alice);
+            model.addPerson(bob);
+            model.updateFilteredPersonList(person -> person.equals(bob));
+        });
+
+        assertEquals(List.of(bob), modelManager.getFilteredPersonList());
+        assertEquals(2, modelManager.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void runBatch_mutationsThrow_addressBookRestored() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91234567").withEmail("alice@u.nus.edu").build();
+
+        assertThrows(IllegalStateException.class, () -> modelManager.runBatch(model -> {
+            model.addPerson(alice);
+            throw new IllegalStateException();
+        }));
+        assertFalse(modelManager.hasPerson(alice));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void runBatch_mutationsThrow_filterNotApplied() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91234567").withEmail("alice@u.nus.edu").build();
+        modelManager.addPerson(alice);
+
+        assertThrows(IllegalStateException.class, () -> modelManager.runBatch(model -> {
+            model.updateFilteredPersonList(person -> false);
+            throw new IllegalStateException();
+        }));
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+
+        // the discarded filter is not applied by a later batch either
+        modelManager.runBatch(model -> model.addPerson(new PersonBuilder().build()));
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void resetMembers_eventsWithAttendees_attendeesCleared() {
+        modelManager.addPerson(new PersonBuilder().build());
+        Person member = modelManager.getAddressBook().getPersonList().get(0);
+        Event meeting = new EventBuilder().withDate("2025-11-01T10:00").build().withAttendees(List.of(member.getId()));
+        modelManager.addEvent(meeting);
+
+        modelManager.resetMembers();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertTrue(modelManager.getAddressBook().getEventList().get(0).getAttendees().isEmpty());
+    }
+
     @Test
     public void deleteEvent_removesEventSuccessfully() {
         Event meeting = new EventBuilder().withName("Team Meeting").withDate("2025-11-01T10:00").build();
@@ -41,6 +41,30 @@ public class AliasBookTest {
         assertFalse(aliasBook.isAliasPresent("del"));
     }
 
+    @Test
+    public void getVersion_modifiedOrRead() {
+        long version = aliasBook.getVersion();
+
+        // reads -> version unchanged
+        aliasBook.isAliasPresent("a");
+        aliasBook.getAliasList();
+        assertEquals(version, aliasBook.getVersion());
+
+        // alias added -> version increases
+        aliasBook.addAlias(ADD_ALIAS);
+        assertTrue(aliasBook.getVersion() > version);
+
+        // alias removed -> version increases
+        version = aliasBook.getVersion();
+        aliasBook.removeAlias("a");
+        assertTrue(aliasBook.getVersion() > version);
+
+        // cleared -> version increases
+        version = aliasBook.getVersion();
+        aliasBook.clear();
+        assertTrue(aliasBook.getVersion() > version);
+    }
+
     @Test
     public void getActualCommandWord_existingAlias_returnsCommand() {
         aliasBook.addAlias(CLEAR_ALIAS);
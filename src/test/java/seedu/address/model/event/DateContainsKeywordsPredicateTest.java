@@ -72,6 +72,15 @@ public class DateContainsKeywordsPredicateTest {
         assertFalse(predicate.test(HACKATHON));
     }
 
+    @Test
+    public void dateRangeKeyword_matchesDatesWithinRange() {
+        DateContainsKeywordsPredicate predicate =
+                new DateContainsKeywordsPredicate(Collections.singletonList("2025-11-05..2025-12"));
+        assertTrue(predicate.test(WORKSHOP)); // "2025-11-10T13:00"
+        assertTrue(predicate.test(HACKATHON)); // "2025-12-15T14:00"
+        assertFalse(predicate.test(MEETING)); // "2025-11-01T12:00"
+    }
+
     @Test
     public void multipleKeywords_oneMatches_returnsTrue() {
         DateContainsKeywordsPredicate predicate =
@@ -0,0 +1,80 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class DateRangeTest {
+
+    @Test
+    public void parse_invalidDateRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> DateRange.parse("2025-13"));
+        assertThrows(IllegalArgumentException.class, () -> DateRange.parse("2025-03..2025-01"));
+    }
+
+    @Test
+    public void isValidDateRange() {
+        // invalid date ranges
+        assertFalse(DateRange.isValidDateRange("")); // empty string
+        assertFalse(DateRange.isValidDateRange("2025-02-30")); // invalid partial date
+        assertFalse(DateRange.isValidDateRange("2025-01..")); // missing end
+        assertFalse(DateRange.isValidDateRange("..2025-01")); // missing start
+        assertFalse(DateRange.isValidDateRange("2025-01..2025-02..2025-03")); // more than two parts
+        assertFalse(DateRange.isValidDateRange("2025-02..2025-01-31")); // start after end
+
+        // valid date ranges
+        assertTrue(DateRange.isValidDateRange("2025")); // single partial date
+        assertTrue(DateRange.isValidDateRange("2025-01..2025-03"));
+        assertTrue(DateRange.isValidDateRange("2025-01-31..2025-01")); // end covers start
+        assertTrue(DateRange.isValidDateRange("2024..2025-06-30T18:00")); // mixed precision
+    }
+
+    @Test
+    public void parse_partialDates_coverWholePeriods() {
+        DateRange march = DateRange.parse("2025-03");
+        assertEquals(LocalDateTime.of(2025, 3, 1, 0, 0), march.getStart());
+        assertEquals(LocalDateTime.of(2025, 4, 1, 0, 0), march.getEnd());
+
+        DateRange quarter = DateRange.parse("2025-01..2025-03");
+        assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), quarter.getStart());
+        assertEquals(LocalDateTime.of(2025, 4, 1, 0, 0), quarter.getEnd());
+
+        DateRange minute = DateRange.parse("2025-12-15T14:00");
+        assertTrue(minute.contains(LocalDateTime.of(2025, 12, 15, 14, 0)));
+        assertFalse(minute.contains(LocalDateTime.of(2025, 12, 15, 14, 1)));
+    }
+
+    @Test
+    public void contains() {
+        DateRange range = DateRange.parse("2025-01..2025-03");
+        assertTrue(range.contains(LocalDateTime.of(2025, 1, 1, 0, 0)));
+        assertTrue(range.contains(LocalDateTime.of(2025, 3, 31, 23, 59)));
+        assertFalse(range.contains(LocalDateTime.of(2024, 12, 31, 23, 59)));
+        assertFalse(range.contains(LocalDateTime.of(2025, 4, 1, 0, 0)));
+    }
+
+    @Test
+    public void equals() {
+        DateRange range = DateRange.parse("2025-01..2025-03");
+
+        // same values -> returns true
+        assertTrue(range.equals(DateRange.parse("2025-01-01..2025-03-31")));
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different types -> returns false
+        assertFalse(range.equals("2025-01..2025-03"));
+
+        // different values -> returns false
+        assertFalse(range.equals(DateRange.parse("2025-01..2025-02")));
+    }
+}
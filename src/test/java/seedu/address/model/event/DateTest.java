@@ -1,9 +1,12 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 
@@ -28,6 +31,15 @@ public class DateTest {
         assertTrue(date.value.equals(validDate));
     }
 
+    @Test
+    public void ofTrusted_validDate_sameAsConstructor() {
+        for (String validDate : new String[] {"2025-10-29T15:30", "0001-01-01T00:00", "+10000-12-31T23:59"}) {
+            Date date = Date.ofTrusted(validDate);
+            assertEquals(new Date(validDate), date);
+            assertEquals(new Date(validDate).toLocalDateTime(), date.toLocalDateTime());
+        }
+    }
+
     // ---------------------- isValidDate tests ----------------------
 
     @Test
@@ -144,4 +156,43 @@ public class DateTest {
         Date futureDate = new Date("2999-01-01T00:00");
         assertFalse(futureDate.isPastCurrDate());
     }
+
+    @Test
+    public void toLocalDateTime_returnsParsedValue() {
+        assertEquals(LocalDateTime.of(2025, 12, 15, 14, 0), new Date("2025-12-15T14:00").toLocalDateTime());
+    }
+
+    @Test
+    public void isBefore_comparesDateTimes() {
+        Date date = new Date("2025-12-15T14:00");
+        assertTrue(date.isBefore(LocalDateTime.of(2025, 12, 15, 14, 1)));
+        assertFalse(date.isBefore(LocalDateTime.of(2025, 12, 15, 14, 0)));
+    }
+
+    @Test
+    public void compareTo_ordersChronologically() {
+        Date earlier = new Date("2025-09-30T23:59");
+        Date later = new Date("2025-10-01T00:00");
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(0, earlier.compareTo(new Date("2025-09-30T23:59")));
+    }
+
+    @Test
+    public void isValidPartialDate() {
+        // invalid partial dates
+        assertFalse(Date.isValidPartialDate("")); // empty string
+        assertFalse(Date.isValidPartialDate("25")); // too short
+        assertFalse(Date.isValidPartialDate("2025-1")); // single-digit month
+        assertFalse(Date.isValidPartialDate("2025-13")); // invalid month
+        assertFalse(Date.isValidPartialDate("2025-02-30")); // invalid day
+        assertFalse(Date.isValidPartialDate("2025-12-15T14")); // hour without minutes
+        assertFalse(Date.isValidPartialDate("2025-12-15T14:00\n")); // trailing newline
+
+        // valid partial dates
+        assertTrue(Date.isValidPartialDate("2025"));
+        assertTrue(Date.isValidPartialDate("2025-12"));
+        assertTrue(Date.isValidPartialDate("2024-02-29"));
+        assertTrue(Date.isValidPartialDate("2025-12-15T14:00"));
+    }
 }
@@ -5,18 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.MemberId;
+
 public class EventTest {
 
     private final EventName name = new EventName("Hackathon 2025");
     private final Date date = new Date("2025-10-29T15:30");
     private final Venue venue = new Venue("Block 123, Tech Hall");
-    private final String attendance = "Alice, Bob";
+    private final MemberId alice = new MemberId(1);
+    private final MemberId bob = new MemberId(2);
+    private final MemberId charlie = new MemberId(3);
+    private final List<MemberId> attendance = Arrays.asList(alice, bob);
 
     // ---------------------- Constructor tests ----------------------
 
@@ -41,94 +49,115 @@ public class EventTest {
         assertEquals(name, event.getName());
         assertEquals(date, event.getDate());
         assertEquals(venue, event.getVenue());
-        assertEquals("", event.getAttendanceList());
+        assertTrue(event.getAttendees().isEmpty());
+    }
+
+    @Test
+    public void getIdentityKey_venueDifferentCaseInTurkishLocale_sameKey() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Event event = new Event(name, date, new Venue("Sports Hall I"));
+            Event otherEvent = new Event(name, date, new Venue("sports hall i"));
+            assertTrue(event.isSameEvent(otherEvent));
+            assertEquals(event.getIdentityKey(), otherEvent.getIdentityKey());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
     }
 
     @Test
-    public void constructor_withAttendanceList_success() {
+    public void constructor_withAttendees_success() {
         Event event = new Event(name, date, venue, attendance);
-        assertEquals(attendance, event.getAttendanceList());
-        assertEquals(Arrays.asList("Alice", "Bob"), event.getAttendees());
+        assertEquals(attendance, new ArrayList<>(event.getAttendees()));
+    }
+
+    @Test
+    public void constructor_duplicateAttendees_keptOnce() {
+        Event event = new Event(name, date, venue, Arrays.asList(alice, bob, alice));
+        assertEquals(attendance, new ArrayList<>(event.getAttendees()));
     }
 
     // ---------------------- Attendance list tests ----------------------
 
     @Test
-    public void getAttendees_emptyAttendanceList_returnsEmptyList() {
+    public void getAttendees_emptyAttendanceList_returnsEmptySet() {
         Event event = new Event(name, date, venue);
-        List<String> attendees = event.getAttendees();
-        assertEquals(Collections.emptyList(), attendees);
+        Set<MemberId> attendees = event.getAttendees();
+        assertEquals(Collections.emptySet(), attendees);
+    }
+
+    @Test
+    public void getAttendees_nonEmptyAttendanceList_returnsSet() {
+        Event event = new Event(name, date, venue, attendance);
+        Set<MemberId> attendees = event.getAttendees();
+        assertEquals(Set.of(alice, bob), attendees);
     }
 
     @Test
-    public void getAttendees_nonEmptyAttendanceList_returnsList() {
+    public void getAttendees_modifySet_throwsUnsupportedOperationException() {
         Event event = new Event(name, date, venue, attendance);
-        List<String> attendees = event.getAttendees();
-        assertEquals(Arrays.asList("Alice", "Bob"), attendees);
+        assertThrows(UnsupportedOperationException.class, () -> event.getAttendees().add(charlie));
     }
 
     @Test
     public void hasAttendee_present_returnsTrue() {
         Event event = new Event(name, date, venue, attendance);
-        assertTrue(event.hasAttendee("Alice"));
+        assertTrue(event.hasAttendee(alice));
     }
 
     @Test
     public void hasAttendee_notPresent_returnsFalse() {
         Event event = new Event(name, date, venue, attendance);
-        assertFalse(event.hasAttendee("Charlie"));
+        assertFalse(event.hasAttendee(charlie));
     }
 
     @Test
     public void addToAttendanceList_emptyList_addsMember() {
         Event event = new Event(name, date, venue);
-        Event updated = event.addToAttendanceList("Alice");
-        assertEquals("Alice", updated.getAttendanceList());
-        assertEquals(Arrays.asList("Alice"), updated.getAttendees());
+        Event updated = event.addToAttendanceList(alice);
+        assertEquals(Arrays.asList(alice), new ArrayList<>(updated.getAttendees()));
+        assertTrue(event.getAttendees().isEmpty());
     }
 
     @Test
     public void addToAttendanceList_nonEmptyList_addsMember() {
-        Event event = new Event(name, date, venue, "Alice");
-        Event updated = event.addToAttendanceList("Bob");
-        assertEquals("Alice, Bob", updated.getAttendanceList());
-        assertEquals(Arrays.asList("Alice", "Bob"), updated.getAttendees());
+        Event event = new Event(name, date, venue, List.of(alice));
+        Event updated = event.addToAttendanceList(bob);
+        assertEquals(Arrays.asList(alice, bob), new ArrayList<>(updated.getAttendees()));
     }
 
     @Test
-    public void removeFromAttendanceList_emptyList_returnsSameEvent() {
-        Event event = new Event(name, date, venue);
-        Event updated = event.removeFromAttendanceList("Alice");
-        assertEquals(event, updated);
-    }
+    public void withAttendees_sourceChangedAfterwards_eventUnchanged() {
+        List<MemberId> source = new ArrayList<>(attendance);
+        Event event = new Event(name, date, venue).withAttendees(source);
+        source.add(charlie);
+        assertEquals(attendance, new ArrayList<>(event.getAttendees()));
 
-    @Test
-    public void removeFromAttendanceList_existingMember_removesMember() {
-        Event event = new Event(name, date, venue, "Alice, Bob");
-        Event updated = event.removeFromAttendanceList("Alice");
-        assertEquals("Bob", updated.getAttendanceList());
-        assertEquals(Arrays.asList("Bob"), updated.getAttendees());
+        // the updated event has its own attendees
+        assertEquals(Arrays.asList(alice, bob, charlie),
+                new ArrayList<>(event.addToAttendanceList(charlie).getAttendees()));
+        assertEquals(attendance, new ArrayList<>(event.getAttendees()));
     }
 
     @Test
-    public void removeFromAttendanceList_nonExistingMember_returnsSameEvent() {
-        Event event = new Event(name, date, venue, "Alice, Bob");
-        Event updated = event.removeFromAttendanceList("Charlie");
+    public void removeFromAttendanceList_emptyList_returnsSameEvent() {
+        Event event = new Event(name, date, venue);
+        Event updated = event.removeFromAttendanceList(alice);
         assertEquals(event, updated);
     }
 
     @Test
-    public void replaceAttendeeEntry_existingMember_replacesEntry() {
-        Event event = new Event(name, date, venue, "Alice, Bob");
-        Event updated = event.replaceAttendeeEntry("Alice", "Charlie");
-        assertEquals("Charlie, Bob", updated.getAttendanceList());
-        assertEquals(Arrays.asList("Charlie", "Bob"), updated.getAttendees());
+    public void removeFromAttendanceList_existingMember_removesMember() {
+        Event event = new Event(name, date, venue, attendance);
+        Event updated = event.removeFromAttendanceList(alice);
+        assertEquals(Set.of(bob), updated.getAttendees());
     }
 
     @Test
-    public void replaceAttendeeEntry_nonExistingMember_returnsSameEvent() {
-        Event event = new Event(name, date, venue, "Alice, Bob");
-        Event updated = event.replaceAttendeeEntry("David", "Charlie");
+    public void removeFromAttendanceList_nonExistingMember_returnsSameEvent() {
+        Event event = new Event(name, date, venue, attendance);
+        Event updated = event.removeFromAttendanceList(charlie);
         assertEquals(event, updated);
     }
 
@@ -168,7 +197,7 @@ public class EventTest {
     public void equals_sameValues_returnsTrue() {
         Event event1 = new Event(name, date, venue, attendance);
         Event event2 = new Event(new EventName("Hackathon 2025"), new Date("2025-10-29T15:30"),
-                new Venue("Block 123, Tech Hall"), "Alice, Bob");
+                new Venue("Block 123, Tech Hall"), List.of(alice, bob));
         assertTrue(event1.equals(event2));
     }
 
@@ -193,6 +222,6 @@ public class EventTest {
         assertTrue(str.contains(name.toString()));
         assertTrue(str.contains(date.toString()));
         assertTrue(str.contains(venue.toString()));
-        assertTrue(str.contains(attendance));
+        assertTrue(str.contains(attendance.toString()));
     }
 }
@@ -4,12 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.HACKATHON;
 import static seedu.address.testutil.TypicalEvents.MEETING;
 import static seedu.address.testutil.TypicalEvents.WORKSHOP;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +23,21 @@ public class UniqueEventListTest {
 
     private final UniqueEventList uniqueEventList = new UniqueEventList();
 
+    @Test
+    public void dateMatcherFor_eventsChanged_matchesCurrentDates() {
+        uniqueEventList.add(MEETING);
+        uniqueEventList.add(HACKATHON);
+        Predicate<Event> matcher = uniqueEventList.dateMatcherFor(List.of(DateRange.parse("2025-11..2025-11-30")));
+        assertTrue(matcher.test(MEETING));
+        assertFalse(matcher.test(HACKATHON));
+
+        Event movedHackathon = new EventBuilder(HACKATHON).withDate("2025-11-20T14:00").build();
+        uniqueEventList.setEvent(HACKATHON, movedHackathon);
+        uniqueEventList.remove(MEETING);
+        assertTrue(matcher.test(movedHackathon));
+        assertFalse(matcher.test(MEETING));
+    }
+
     @Test
     public void contains_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.contains(null));
@@ -37,6 +54,16 @@ public class UniqueEventListTest {
         assertTrue(uniqueEventList.contains(MEETING));
     }
 
+    @Test
+    public void contains_eventWithSameDateAndVenueInDifferentCase_returnsTrue() {
+        uniqueEventList.add(MEETING);
+        Event renamedMeeting = new EventBuilder(MEETING)
+                .withName("Renamed Meeting")
+                .withLocation(MEETING.getVenue().value.toUpperCase())
+                .build();
+        assertTrue(uniqueEventList.contains(renamedMeeting));
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -118,6 +145,23 @@ public class UniqueEventListTest {
         assertEquals(expectedList, uniqueEventList);
     }
 
+    @Test
+    public void remove_earlierEvent_laterEventsRemainAddressable() {
+        uniqueEventList.add(MEETING);
+        uniqueEventList.add(WORKSHOP);
+        uniqueEventList.add(HACKATHON);
+        uniqueEventList.remove(MEETING);
+
+        Event editedHackathon = new EventBuilder(HACKATHON).withName("HackNUS Finals").build();
+        uniqueEventList.setEvent(HACKATHON, editedHackathon);
+        uniqueEventList.remove(WORKSHOP);
+
+        UniqueEventList expectedList = new UniqueEventList();
+        expectedList.add(editedHackathon);
+        assertEquals(expectedList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(MEETING));
+    }
+
     @Test
     public void setEvents_nullUniqueEventList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.setEvents((UniqueEventList) null));
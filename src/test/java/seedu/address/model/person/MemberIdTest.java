@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MemberIdTest {
+
+    @Test
+    public void constructor_invalidMemberId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MemberId(0));
+        assertThrows(IllegalArgumentException.class, () -> new MemberId(-3));
+    }
+
+    @Test
+    public void isValidMemberId() {
+        assertFalse(MemberId.isValidMemberId(0));
+        assertFalse(MemberId.isValidMemberId(-1));
+
+        assertTrue(MemberId.isValidMemberId(1));
+        assertTrue(MemberId.isValidMemberId(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void equals() {
+        MemberId memberId = new MemberId(4);
+
+        // same values -> returns true
+        assertTrue(memberId.equals(new MemberId(4)));
+        assertEquals(memberId.hashCode(), new MemberId(4).hashCode());
+
+        // same object -> returns true
+        assertTrue(memberId.equals(memberId));
+
+        // null -> returns false
+        assertFalse(memberId.equals(null));
+
+        // different types -> returns false
+        assertFalse(memberId.equals(4));
+
+        // different values -> returns false
+        assertFalse(memberId.equals(new MemberId(5)));
+    }
+}
@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +24,28 @@ public class UniquePersonListTest {
 
     private final UniquePersonList uniquePersonList = new UniquePersonList();
 
+    @Test
+    public void nameMatcherFor_personEdited_matchesCurrentNames() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> matcher = uniquePersonList.nameMatcherFor(List.of("pauline"));
+        assertTrue(matcher.test(ALICE));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertFalse(matcher.test(renamedAlice));
+        assertTrue(uniquePersonList.nameMatcherFor(List.of("TAN")).test(renamedAlice));
+    }
+
+    @Test
+    public void roleMatcherFor_personRemoved_noLongerMatched() {
+        uniquePersonList.add(ALICE);
+        Predicate<Person> matcher = uniquePersonList.roleMatcherFor(List.of("Friends"));
+        assertTrue(matcher.test(ALICE));
+
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertFalse(matcher.test(ALICE));
+    }
+
     @Test
     public void contains_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.contains(null));
@@ -47,6 +71,25 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail("ALICE@u.nus.edu").build();
+        assertTrue(uniquePersonList.contains(bobWithAliceEmail));
+    }
+
+    @Test
+    public void contains_personWithSameEmailDifferentCaseInTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            uniquePersonList.add(new PersonBuilder(ALICE).withEmail("bill@u.nus.edu").build());
+            assertTrue(uniquePersonList.contains(new PersonBuilder(BOB).withEmail("BILL@u.nus.edu").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -110,6 +153,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesEmailWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -126,6 +185,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedList = new UniquePersonList();
         assertEquals(expectedList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -163,6 +223,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSharedPhone_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> listWithSharedPhone = Arrays.asList(ALICE, bobWithAlicePhone);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithSharedPhone));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
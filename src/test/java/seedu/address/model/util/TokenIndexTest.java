@@ -0,0 +1,65 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class TokenIndexTest {
+
+    private final TokenIndex<String> tokenIndex = new TokenIndex<>();
+
+    @Test
+    public void findAny_wholeWordsIgnoringCase_matched() {
+        tokenIndex.add("alice", "Alice  Pauline");
+        tokenIndex.add("bob", "Bob Choo");
+
+        assertEquals(Set.of("alice"), tokenIndex.findAny(List.of("pAULINE")));
+        assertEquals(Set.of("alice", "bob"), tokenIndex.findAny(List.of("alice", "CHOO")));
+
+        // partial words do not match
+        assertTrue(tokenIndex.findAny(List.of("Pau")).isEmpty());
+    }
+
+    @Test
+    public void findAny_dottedAndDotlessI_matchedAsContainsWordIgnoreCase() {
+        String text = "\u0130pek Y\u0131lmaz";
+        tokenIndex.add("ipek", text);
+
+        // dotted capital I and dotless small i both compare equal to i, ignoring case
+        for (String keyword : List.of("ipek", "IPEK", "\u0130PEK", "yilmaz", "YILMAZ", "y\u0131lmaz")) {
+            assertTrue(StringUtil.containsWordIgnoreCase(text, keyword));
+            assertEquals(Set.of("ipek"), tokenIndex.findAny(List.of(keyword)));
+        }
+
+        // a combining dot makes a different word
+        assertFalse(StringUtil.containsWordIgnoreCase(text, "i\u0307pek"));
+        assertTrue(tokenIndex.findAny(List.of("i\u0307pek")).isEmpty());
+    }
+
+    @Test
+    public void findAny_afterRemove_itemNotMatched() {
+        tokenIndex.add("alice", "Alice Pauline");
+        tokenIndex.remove("alice", "Alice Pauline");
+        assertTrue(tokenIndex.findAny(List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void matcherFor_indexChanges_reflectsChanges() {
+        Predicate<String> matcher = tokenIndex.matcherFor(List.of("choo"));
+        assertFalse(matcher.test("bob"));
+
+        tokenIndex.add("bob", "Bob Choo");
+        assertTrue(matcher.test("bob"));
+
+        tokenIndex.clear();
+        assertFalse(matcher.test("bob"));
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventName;
+import seedu.address.model.event.Venue;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MemberId;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Year;
+
+/**
+ * Compares the time taken to load an address book file that is checked in full with that of the same file loaded
+ * through its {@link AddressBookChecksum}, in both the json and the binary formats. Run with {@code gradlew benchmark}.
+ */
+public class AddressBookLoadBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int PERSON_COUNT = 20_000;
+    private static final int EVENT_COUNT = 2_000;
+    private static final int ATTENDEES_PER_EVENT = 20;
+
+    /** Keeps the loaded address books in use, so that the loads are not optimised away. */
+    private static int loadedCount;
+
+    /**
+     * Runs the benchmark and prints the average time per load of each format.
+     */
+    public static void main(String[] args) {
+        try {
+            Path folder = Files.createTempDirectory("addressBookLoadBenchmark");
+            AddressBook addressBook = createAddressBook();
+            System.out.printf("%-8s %14s %14s %9s%n", "Format", "checked (ms)", "trusted (ms)", "speed-up");
+            run("json", new JsonAddressBookStorage(folder.resolve("addressbook.json")), addressBook);
+            run("binary", new BinaryAddressBookStorage(folder.resolve("addressbook.bin")), addressBook);
+            System.out.println("Loaded: " + loadedCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void run(String format, AddressBookStorage storage, AddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+        Path checksumFilePath = AddressBookChecksum.getChecksumFilePath(storage.getAddressBookFilePath());
+        double trustedTime = measure(storage);
+        Files.delete(checksumFilePath);
+        double checkedTime = measure(storage);
+        System.out.printf("%-8s %14.1f %14.1f %8.1fx%n", format, checkedTime, trustedTime, checkedTime / trustedTime);
+    }
+
+    /**
+     * Returns the average time, in milliseconds, of a load of the address book in {@code storage}.
+     */
+    private static double measure(AddressBookStorage storage) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            load(storage);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            load(storage);
+        }
+        return (System.nanoTime() - start) / (MEASURED_ROUNDS * 1e6);
+    }
+
+    private static void load(AddressBookStorage storage) throws IOException {
+        try {
+            loadedCount += storage.readAddressBook().orElseThrow().getPersonList().size();
+        } catch (DataLoadingException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static AddressBook createAddressBook() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new Person(new Name("Member " + toLetters(i)), new Phone(String.valueOf(80_000_000 + i)),
+                    new Email("member" + i + "@u.nus.edu"), new Year(String.valueOf(i % 5 + 1)),
+                    new Role("Role " + (i % 10)), 0, new MemberId(i + 1)));
+        }
+        List<Event> events = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            List<MemberId> attendees = new ArrayList<>(ATTENDEES_PER_EVENT);
+            for (int j = 0; j < ATTENDEES_PER_EVENT; j++) {
+                attendees.add(new MemberId((i * ATTENDEES_PER_EVENT + j) % PERSON_COUNT + 1));
+            }
+            String date = String.format("%04d-%02d-%02dT%02d:00", 2000 + i / 336, i / 28 % 12 + 1, i % 28 + 1, 18);
+            events.add(new Event(new EventName("Event " + i), new Date(date), new Venue("Hall " + i),
+                    attendees));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setEvents(events);
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code number} written in base 26 with the letters a to z, since names cannot contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
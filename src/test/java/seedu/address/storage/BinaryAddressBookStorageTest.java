@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Tests for {@link BinaryAddressBookStorage}.
+ */
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.dat")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(MEETING.withAttendees(List.of(original.getMemberId(ALICE).get(),
+                original.getMemberId(BENSON).get())));
+        original.addEvent(WORKSHOP);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getEventList().get(0).getAttendees(), readBack.getEventList().get(0).getAttendees());
+        assertEquals(original.getPersonList().get(0).getId(), readBack.getPersonList().get(0).getId());
+    }
+
+    @Test
+    public void readAddressBook_highestIdDeleted_idNotGivenAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        AddressBook original = getTypicalAddressBook();
+        original.removePerson(original.getPersonList().get(original.getPersonList().size() - 1));
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(AddressBookChecksum.isUnchanged(filePath, FileUtil.readToBuffer(filePath)));
+        assertEquals(original.getNextMemberId(),
+                new BinaryAddressBookStorage(filePath).readAddressBook().get().getNextMemberId());
+    }
+
+    @Test
+    public void readAddressBook_eitherFormat_detected() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        // json file read by the binary storage
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        // binary file read by the json storages
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonJournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void getBinaryFilePath_extensionReplaced() {
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook.json")));
+        assertEquals(testFolder.resolve("club.v2.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("club.v2.json")));
+        assertEquals(testFolder.resolve("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(testFolder.resolve("addressbook")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_switchedBetweenFormats_jsonFileNeverBinary() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        // switched to binary -> the json file is read, then replaced by the binary file
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath, jsonFilePath);
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+        original.addPerson(HOON);
+        binaryStorage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(binaryFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // switched back to json -> the binary file is read until the json file is saved again
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+        original.removePerson(HOON);
+        jsonStorage.saveAddressBook(original);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(jsonFilePath));
+
+        // and to binary again -> the newer json file is read rather than the old binary file
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_journalPresent_replayedThenDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage journalStorage = new JsonJournalAddressBookStorage(filePath);
+        journalStorage.readAddressBook();
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.dat");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(filePath))) {
+            output.writeInt(BinaryAddressBookStorage.MAGIC);
+            output.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        }
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
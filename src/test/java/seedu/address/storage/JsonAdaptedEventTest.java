@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedEvent.MESSAGE_INVALID_ATTENDEE;
+import static seedu.address.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+
+/**
+ * Tests for {@link JsonAdaptedEvent}.
+ */
+public class JsonAdaptedEventTest {
+    private static final String VALID_NAME = MEETING.getName().fullName;
+    private static final String VALID_DATE = MEETING.getDate().value;
+    private static final String VALID_VENUE = MEETING.getVenue().value;
+    private static final List<MemberId> VALID_ATTENDEES = Arrays.asList(new MemberId(1), new MemberId(2));
+    private static final Map<String, MemberId> LEGACY_KEYS = Map.of(
+            "Alice [94351253]", new MemberId(1), "Bob [98765432]", new MemberId(2));
+
+    @Test
+    public void toModelType_validEventDetails_returnsEvent() throws Exception {
+        Event eventWithAttendees = MEETING.withAttendees(VALID_ATTENDEES);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(eventWithAttendees);
+        Event modelEvent = event.toModelType(Map.of());
+        assertEquals(eventWithAttendees, modelEvent);
+        assertEquals(VALID_ATTENDEES, new ArrayList<>(modelEvent.getAttendees()));
+    }
+
+    @Test
+    public void toModelType_legacyAttendees_mappedToMemberIds() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_VENUE, null,
+                Arrays.asList("Alice [94351253]", "Bob [98765432]"), null);
+        assertEquals(VALID_ATTENDEES, new ArrayList<>(event.toModelType(LEGACY_KEYS).getAttendees()));
+    }
+
+    @Test
+    public void toModelType_legacyAttendanceList_mappedToMemberIds() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_VENUE, null, null,
+                "Alice [94351253], Bob [98765432], Carl [95352563]");
+        assertEquals(VALID_ATTENDEES, new ArrayList<>(event.toModelType(LEGACY_KEYS).getAttendees()));
+    }
+
+    @Test
+    public void toModelType_noAttendanceFields_returnsEventWithoutAttendees() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_VENUE, null, null, null);
+        assertEquals(0, event.toModelType(LEGACY_KEYS).getAttendees().size());
+    }
+
+    @Test
+    public void toModelType_nullAttendeeId_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_VENUE,
+                Arrays.asList(1, null), null, null);
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_ATTENDEE, () -> event.toModelType(Map.of()));
+    }
+
+    @Test
+    public void toModelType_invalidAttendeeId_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_VENUE,
+                Arrays.asList(1, 0), null, null);
+        assertThrows(IllegalValueException.class, MemberId.MESSAGE_CONSTRAINTS, () -> event.toModelType(Map.of()));
+    }
+
+    @Test
+    public void toModelType_blankLegacyAttendee_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DATE, VALID_VENUE, null,
+                Arrays.asList("Alice [94351253]", " "), null);
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_ATTENDEE, () -> event.toModelType(LEGACY_KEYS));
+    }
+
+    @Test
+    public void toModelType_nullDate_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, null, VALID_VENUE, Arrays.asList(1, 2), null, null);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(Map.of()));
+    }
+}
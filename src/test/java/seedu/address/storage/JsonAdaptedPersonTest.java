@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.MemberId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -161,4 +162,17 @@ public class JsonAdaptedPersonTest {
                 BENSON.getYear(), new Role(VALID_ROLE), 0);
         assertEquals(expected, person.toModelType());
     }
+
+    @Test
+    public void toModelType_withId_keepsId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON.withId(new MemberId(7)));
+        assertEquals(new MemberId(7), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_YEAR, VALID_ROLE, VALID_ATTENDANCE, 0);
+        assertThrows(IllegalValueException.class, MemberId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
 }
@@ -2,22 +2,31 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.MEETING;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.zip.Checksum;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.MemberId;
 
 /**
  * Tests for {@link JsonAddressBookStorage}.
@@ -88,6 +97,103 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void saveAddressBook_prettyOrCompact_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(MEETING.withAttendees(List.of(original.getMemberId(ALICE).get())));
+
+        // pretty -> same file as converting the whole address book at once
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), FileUtil.readFromFile(filePath));
+
+        // compact -> single line that reads back the same
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(filePath, true);
+        compactStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalFromJournalFormat_replayedThenDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonJournalAddressBookStorage journalStorage = new JsonJournalAddressBookStorage(filePath);
+        journalStorage.readAddressBook();
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        assertTrue(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        // switched back to the json format
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+        jsonStorage.saveAddressBook(original);
+        assertFalse(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_highestIdDeleted_idNotGivenAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.removePerson(original.getPersonList().get(original.getPersonList().size() - 1));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        // the checksum computed while writing matches the file, so it is read through the checksum first
+        assertTrue(AddressBookChecksum.isUnchanged(filePath, FileUtil.readToBuffer(filePath)));
+        assertEquals(original.getNextMemberId(),
+                new JsonAddressBookStorage(filePath).readAddressBook().get().getNextMemberId());
+        Files.delete(AddressBookChecksum.getChecksumFilePath(filePath));
+        assertEquals(original.getNextMemberId(),
+                new JsonAddressBookStorage(filePath).readAddressBook().get().getNextMemberId());
+    }
+
+    @Test
+    public void readAddressBook_unchangedSinceSave_notCheckedAgain() throws Exception {
+        Path filePath = writeDuplicateMemberIdFile();
+
+        // the checksum vouches for the file, so the duplicate member id goes unnoticed
+        saveChecksum(filePath);
+        assertEquals(2, new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().size());
+
+        // no checksum -> checked in full
+        Files.delete(AddressBookChecksum.getChecksumFilePath(filePath));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_checksumOfOtherSchemaVersion_checkedInFull() throws Exception {
+        Path filePath = writeDuplicateMemberIdFile();
+        saveChecksum(filePath);
+        Path checksumFilePath = AddressBookChecksum.getChecksumFilePath(filePath);
+        String otherVersion = "\"schemaVersion\" : " + (AddressBookChecksum.SCHEMA_VERSION + 1);
+        FileUtil.writeToFile(checksumFilePath, FileUtil.readFromFile(checksumFilePath)
+                .replaceFirst("\"schemaVersion\"\\s*:\\s*\\d+", otherVersion));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_editedSinceSave_checkedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(AddressBookChecksum.getChecksumFilePath(filePath)));
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replaceFirst("@u.nus.edu", "@gmail.com"));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Writes an address book file in which two persons have the same member id, and returns its path.
+     */
+    private Path writeDuplicateMemberIdFile() throws IOException {
+        Path filePath = testFolder.resolve("DuplicateMemberIdAddressBook.json");
+        MemberId id = new MemberId(1);
+        FileUtil.writeToFile(filePath, "{\"persons\": ["
+                + JsonUtil.toJsonLine(new JsonAdaptedPerson(ALICE.withId(id))) + ", "
+                + JsonUtil.toJsonLine(new JsonAdaptedPerson(BENSON.withId(id))) + "]}");
+        return filePath;
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -109,4 +215,13 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    /**
+     * Records the current contents of the file at {@code filePath} as if the app had written them.
+     */
+    private static void saveChecksum(Path filePath) throws IOException {
+        Checksum checksum = AddressBookChecksum.newChecksum();
+        checksum.update(Files.readAllBytes(filePath));
+        AddressBookChecksum.save(filePath, checksum);
+    }
 }
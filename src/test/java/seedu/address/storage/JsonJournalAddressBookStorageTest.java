@@ -0,0 +1,263 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.HACKATHON;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.SEMINAR;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.MemberId;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Tests for {@link JsonJournalAddressBookStorage}.
+ */
+public class JsonJournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JsonJournalAddressBookStorage(testFolder.resolve("addressBook.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesSinceRead_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Path journal = JsonJournalAddressBookStorage.getJournalFilePath(filePath);
+
+        // nothing changed -> nothing written
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journal));
+
+        // persons and events changed -> only the changes, and the id taken by the new person, are journaled
+        String snapshot = Files.readString(filePath);
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(addressBook.getPersonList().get(1));
+        addressBook.addEvent(MEETING);
+        storage.saveAddressBook(addressBook);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journal).size());
+
+        ReadOnlyAddressBook retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_personAddedAndDeleted_idNotGivenAgainAfterRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        // the person is gone by the save, so only the id it took is journaled
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(JsonJournalAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        ReadOnlyAddressBook retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getNextMemberId(), retrieved.getNextMemberId());
+    }
+
+    @Test
+    public void saveAddressBook_attendanceMarked_eventReplacedOnRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(WORKSHOP);
+        storage.saveAddressBook(addressBook);
+
+        MemberId aliceId = addressBook.getMemberId(ALICE).get();
+        addressBook.setEvent(WORKSHOP, WORKSHOP.withAttendees(List.of(aliceId)));
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+        Event retrievedWorkshop = retrieved.getEventList().get(0);
+        assertEquals(List.of(aliceId), List.copyOf(retrievedWorkshop.getAttendees()));
+    }
+
+    @Test
+    public void saveAddressBook_attendanceChanged_onlyAttendeesChangedJournaled() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(WORKSHOP);
+        storage.saveAddressBook(addressBook, filePath);
+
+        MemberId aliceId = addressBook.getMemberId(ALICE).get();
+        MemberId bensonId = addressBook.getMemberId(BENSON).get();
+        addressBook.setEvent(WORKSHOP, WORKSHOP.withAttendees(List.of(aliceId, bensonId)));
+        Event markedWorkshop = addressBook.getEventList().get(0);
+        addressBook.setEvent(markedWorkshop, markedWorkshop.removeFromAttendanceList(aliceId));
+        storage.saveAddressBook(addressBook);
+        Path journal = JsonJournalAddressBookStorage.getJournalFilePath(filePath);
+        List<String> records = Files.readAllLines(journal);
+        assertEquals(2, records.size());
+        assertTrue(records.stream().allMatch(record -> record.contains("CHANGE_ATTENDANCE")));
+
+        ReadOnlyAddressBook retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(bensonId), List.copyOf(retrieved.getEventList().get(0).getAttendees()));
+
+        // replaying the journal over a snapshot that already includes it changes nothing
+        String journalContent = Files.readString(journal);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Files.writeString(JsonJournalAddressBookStorage.getCompactingJournalFilePath(filePath), journalContent);
+        retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(bensonId), List.copyOf(retrieved.getEventList().get(0).getAttendees()));
+    }
+
+    @Test
+    public void saveAddressBook_dataReplacedWholesale_savedAsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, filePath);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        AddressBook newData = new AddressBook();
+        newData.addPerson(ALICE);
+        addressBook.resetData(newData);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JsonJournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_eventDateAndVenueEdited_eventsKeepOrderOnRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(MEETING);
+        addressBook.addEvent(WORKSHOP);
+        addressBook.addEvent(HACKATHON);
+        storage.saveAddressBook(addressBook, filePath);
+
+        // edits, a removal and an addition saved together, as write-behind saves do
+        addressBook.setEvent(MEETING, new EventBuilder(MEETING).withDate("2025-11-02T12:00").build());
+        addressBook.removeEvent(WORKSHOP);
+        addressBook.setEvent(HACKATHON, new EventBuilder(HACKATHON).withLocation("COM1").build());
+        addressBook.addEvent(SEMINAR);
+        storage.saveAddressBook(addressBook);
+        String journal = Files.readString(JsonJournalAddressBookStorage.getJournalFilePath(filePath));
+
+        ReadOnlyAddressBook retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getEventList(), retrieved.getEventList());
+
+        // replaying the journal over a snapshot that already includes it changes nothing
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Files.writeString(JsonJournalAddressBookStorage.getCompactingJournalFilePath(filePath), journal);
+        retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getEventList(), retrieved.getEventList());
+
+        // an event removed and added again moves to the end, which is saved as a fresh snapshot
+        storage.readAddressBook();
+        Event firstEvent = addressBook.getEventList().get(0);
+        addressBook.removeEvent(firstEvent);
+        addressBook.addEvent(firstEvent);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+        retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getEventList(), retrieved.getEventList());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath, 1);
+        storage.readAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // reading waits for the compaction to finish
+        ReadOnlyAddressBook retrieved = storage.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+        assertFalse(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertFalse(Files.exists(JsonJournalAddressBookStorage.getCompactingJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_recordsReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // compaction moved the journal aside and wrote the snapshot, but did not delete the moved journal
+        Files.move(JsonJournalAddressBookStorage.getJournalFilePath(filePath),
+                JsonJournalAddressBookStorage.getCompactingJournalFilePath(filePath));
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook retrieved = new JsonJournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoredAndRemoved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path journal = JsonJournalAddressBookStorage.getJournalFilePath(filePath);
+        String completeJournal = Files.readString(journal);
+        Files.writeString(journal, "{\"type\":\"PUT_PER", StandardOpenOption.APPEND);
+
+        storage = new JsonJournalAddressBookStorage(filePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(completeJournal, Files.readString(journal));
+
+        // later records are still readable
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new JsonJournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_toFilePath_journalsDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonJournalAddressBookStorage storage = new JsonJournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook, filePath);
+        assertFalse(Files.exists(JsonJournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -2,17 +2,29 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MemberId;
 import seedu.address.testutil.TypicalEvents;
 import seedu.address.testutil.TypicalPersons;
 
@@ -25,6 +37,11 @@ import seedu.address.testutil.TypicalPersons;
  */
 public class JsonSerializableAddressBookTest {
 
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void toModelType_typicalAddressBook_success() throws Exception {
         // Build an AddressBook containing the typical persons and events
@@ -93,4 +110,183 @@ public class JsonSerializableAddressBookTest {
         IllegalValueException thrown = assertThrows(IllegalValueException.class, jsonAb::toModelType);
         assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT, thrown.getMessage());
     }
+
+    @Test
+    public void toModelType_legacyAttendanceKeys_mappedToAssignedIds() throws Exception {
+        JsonAdaptedPerson alice = new JsonAdaptedPerson(TypicalPersons.ALICE);
+        String legacyKey = TypicalPersons.ALICE.getName().fullName + " [" + TypicalPersons.ALICE.getPhone().value + "]";
+        JsonAdaptedEvent meeting = new JsonAdaptedEvent(TypicalEvents.MEETING.getName().fullName,
+                TypicalEvents.MEETING.getDate().value, TypicalEvents.MEETING.getVenue().value,
+                null, null, legacyKey);
+
+        AddressBook converted = new JsonSerializableAddressBook(List.of(alice), List.of(meeting)).toModelType();
+        MemberId aliceId = converted.getPersonList().get(0).getId();
+        assertEquals(Set.of(aliceId), converted.getEventList().get(0).getAttendees());
+    }
+
+    @Test
+    public void toModelType_duplicateMemberIds_throwsIllegalValueException() {
+        JsonAdaptedPerson alice = new JsonAdaptedPerson(TypicalPersons.ALICE.withId(new MemberId(1)));
+        JsonAdaptedPerson benson = new JsonAdaptedPerson(TypicalPersons.BENSON.withId(new MemberId(1)));
+        JsonSerializableAddressBook jsonAb = new JsonSerializableAddressBook(List.of(alice, benson), List.of());
+
+        IllegalValueException thrown = assertThrows(IllegalValueException.class, jsonAb::toModelType);
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEMBER_ID, thrown.getMessage());
+    }
+
+    @Test
+    public void toModelType_unknownAttendeeId_throwsIllegalValueException() {
+        JsonAdaptedEvent meeting = new JsonAdaptedEvent(TypicalEvents.MEETING.withAttendees(List.of(new MemberId(3))));
+        JsonSerializableAddressBook jsonAb = new JsonSerializableAddressBook(List.of(), List.of(meeting));
+
+        IllegalValueException thrown = assertThrows(IllegalValueException.class, jsonAb::toModelType);
+        assertEquals(JsonSerializableAddressBook.MESSAGE_UNKNOWN_ATTENDEE, thrown.getMessage());
+    }
+
+    @Test
+    public void toModelType_manyPersons_convertedInOrder() throws Exception {
+        List<JsonAdaptedPerson> personList = getNumberedPersons(1000);
+        AddressBook converted = new JsonSerializableAddressBook(personList, List.of()).toModelType();
+
+        assertEquals(personList.size(), converted.getPersonList().size());
+        for (int i = 0; i < personList.size(); i++) {
+            assertEquals(personList.get(i).toModelType(), converted.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_manyInvalidPersons_firstInListReported() {
+        List<JsonAdaptedPerson> personList = getNumberedPersons(1000);
+        personList.set(700, new JsonAdaptedPerson("Member", "123", "member700@u.nus.edu", "1", "friends", 0));
+        personList.set(300, new JsonAdaptedPerson("Member", "90000300", "not an email", "1", "friends", 0));
+        JsonSerializableAddressBook jsonAb = new JsonSerializableAddressBook(personList, List.of());
+
+        IllegalValueException thrown = assertThrows(IllegalValueException.class, jsonAb::toModelType);
+        assertEquals(Email.MESSAGE_CONSTRAINTS, thrown.getMessage());
+    }
+
+    @Test
+    public void read_typicalAddressBookFile_sameAsToModelType() throws Exception {
+        AddressBook source = TypicalPersons.getTypicalAddressBook();
+        for (seedu.address.model.event.Event e : TypicalEvents.getTypicalEvents()) {
+            source.addEvent(e);
+        }
+        Path filePath = temporaryFolder.resolve("typical.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(source), filePath);
+        AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertEquals(expected, JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueExceptionWithLocation() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"))) {
+            IllegalValueException thrown = assertThrows(IllegalValueException.class, () ->
+                    JsonSerializableAddressBook.read(parser));
+            assertTrue(thrown.getMessage().startsWith("Line 10, column 5: "));
+        }
+    }
+
+    @Test
+    public void read_eventsBeforePersons_success() throws Exception {
+        MemberId aliceId = new MemberId(1);
+        String json = "{\"events\": [" + JsonUtil.toJsonLine(new JsonAdaptedEvent(
+                TypicalEvents.MEETING.withAttendees(List.of(aliceId)))) + "], "
+                + "\"persons\": [" + JsonUtil.toJsonLine(new JsonAdaptedPerson(
+                TypicalPersons.ALICE.withId(aliceId))) + "]}";
+        Path filePath = temporaryFolder.resolve("eventsFirst.json");
+        FileUtil.writeToFile(filePath, json);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            AddressBook converted = JsonSerializableAddressBook.read(parser);
+            assertEquals(List.of(TypicalPersons.ALICE), converted.getPersonList());
+            assertEquals(Set.of(aliceId), converted.getEventList().get(0).getAttendees());
+        }
+    }
+
+    @Test
+    public void read_duplicatePerson_throwsIllegalValueExceptionWithLocation() throws Exception {
+        String json = "{\"persons\": [\n" + JsonUtil.toJsonLine(new JsonAdaptedPerson(TypicalPersons.ALICE)) + ",\n"
+                + JsonUtil.toJsonLine(new JsonAdaptedPerson(TypicalPersons.ALICE)) + "]}";
+        Path filePath = temporaryFolder.resolve("duplicatePerson.json");
+        FileUtil.writeToFile(filePath, json);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            IllegalValueException thrown = assertThrows(IllegalValueException.class, () ->
+                    JsonSerializableAddressBook.read(parser));
+            assertTrue(thrown.getMessage().startsWith("Line 3, column "));
+            assertTrue(thrown.getMessage().endsWith(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    @Test
+    public void read_duplicateEventBeforeInvalidPerson_eventReported() throws Exception {
+        String event = JsonUtil.toJsonLine(new JsonAdaptedEvent(TypicalEvents.MEETING));
+        String json = "{\"events\": [\n" + event + ",\n" + event + "],\n\"persons\": [\n"
+                + JsonUtil.toJsonLine(new JsonAdaptedPerson("Member", "123", "a@u.nus.edu", "1", "friends", 0))
+                + "]}";
+        Path filePath = temporaryFolder.resolve("duplicateEarlyEvent.json");
+        FileUtil.writeToFile(filePath, json);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            IllegalValueException thrown = assertThrows(IllegalValueException.class, () ->
+                    JsonSerializableAddressBook.read(parser));
+            assertTrue(thrown.getMessage().startsWith("Line 3, column "));
+            assertTrue(thrown.getMessage().endsWith(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT));
+        }
+    }
+
+    @Test
+    public void read_eventBeforePersonsWithUnknownAttendee_throwsIllegalValueExceptionWithLocation()
+            throws Exception {
+        String json = "{\"events\": [\n" + JsonUtil.toJsonLine(new JsonAdaptedEvent(
+                TypicalEvents.MEETING.withAttendees(List.of(new MemberId(2))))) + "],\n\"persons\": [\n"
+                + JsonUtil.toJsonLine(new JsonAdaptedPerson(TypicalPersons.ALICE.withId(new MemberId(1)))) + "]}";
+        Path filePath = temporaryFolder.resolve("unknownEarlyAttendee.json");
+        FileUtil.writeToFile(filePath, json);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            IllegalValueException thrown = assertThrows(IllegalValueException.class, () ->
+                    JsonSerializableAddressBook.read(parser));
+            assertTrue(thrown.getMessage().startsWith("Line 2, column "));
+            assertTrue(thrown.getMessage().endsWith(JsonSerializableAddressBook.MESSAGE_UNKNOWN_ATTENDEE));
+        }
+    }
+
+    @Test
+    public void read_invalidNextMemberId_throwsIllegalValueExceptionWithLocation() throws Exception {
+        Path filePath = temporaryFolder.resolve("invalidNextMemberId.json");
+        FileUtil.writeToFile(filePath, "{\"persons\": [],\n\"nextMemberId\": 0}");
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            IllegalValueException thrown = assertThrows(IllegalValueException.class, () ->
+                    JsonSerializableAddressBook.read(parser));
+            assertEquals(String.format(JsonSerializableAddressBook.MESSAGE_AT_LOCATION_FORMAT, 2, 17,
+                    MemberId.MESSAGE_CONSTRAINTS), thrown.getMessage());
+        }
+    }
+
+    @Test
+    public void read_notAnObject_throwsJsonParseException() throws Exception {
+        Path filePath = temporaryFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[]");
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertThrows(JsonParseException.class, () -> JsonSerializableAddressBook.read(parser));
+        }
+    }
+
+    /**
+     * Returns {@code count} valid persons with distinct phones and emails.
+     */
+    private static List<JsonAdaptedPerson> getNumberedPersons(int count) {
+        List<JsonAdaptedPerson> personList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            personList.add(new JsonAdaptedPerson("Member", String.format("9%07d", i), "member" + i + "@u.nus.edu",
+                    "1", "friends", 0));
+        }
+        return personList;
+    }
 }
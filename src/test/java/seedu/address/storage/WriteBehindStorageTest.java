@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.alias.Alias;
+import seedu.address.model.alias.AliasBook;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        new AliasBook().clear();
+        storageManager = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonAliasBookStorage(testFolder.resolve("alias")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        new AliasBook().clear();
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_dataWritten() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(storageManager);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAliasBook_aliasesChangedBeforeWrite_snapshotWritten() throws Exception {
+        BlockingStorage blockingStorage = new BlockingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(blockingStorage);
+        storage.saveAddressBook(new AddressBook()); // holds up the writer
+
+        AliasBook aliasBook = new AliasBook();
+        aliasBook.addAlias(new Alias("list", "ls"));
+        storage.saveAliasBook(aliasBook);
+        aliasBook.addAlias(new Alias("delete", "rm"));
+
+        blockingStorage.release.countDown();
+        storage.flush();
+        assertEquals(1, storageManager.aliasBook().get().getAliasList().size());
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescedIntoLatest() throws Exception {
+        BlockingStorage blockingStorage = new BlockingStorage();
+        WriteBehindStorage storage = new WriteBehindStorage(blockingStorage);
+        AddressBook addressBook = new AddressBook();
+
+        storage.saveAddressBook(addressBook); // picked up by the writer, which then waits
+        blockingStorage.started.await();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+
+        blockingStorage.release.countDown();
+        storage.flush();
+        assertEquals(2, blockingStorage.addressBookSaves.get());
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        expected.addPerson(BENSON);
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_saveFailed_failureReportedOnce() throws Exception {
+        // the save fails only after it has been queued, so the failure is left for flush to report
+        CountDownLatch queued = new CountDownLatch(1);
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonAliasBookStorage(testFolder.resolve("alias")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                        try {
+                            queued.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new IOException("disk full");
+                    }
+                });
+
+        storage.saveAddressBook(new AddressBook());
+        queued.countDown();
+        assertThrows(IOException.class, "disk full", storage::flush);
+        storage.flush();
+    }
+
+    /**
+     * A storage whose first address book save waits until {@link #release} is counted down.
+     */
+    private class BlockingStorage extends StorageManager {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger addressBookSaves = new AtomicInteger();
+
+        BlockingStorage() {
+            super(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                    new JsonAliasBookStorage(testFolder.resolve("alias")),
+                    new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            addressBookSaves.incrementAndGet();
+            super.saveAddressBook(addressBook);
+        }
+    }
+}